@@ -0,0 +1,28 @@
+// Writes .br and .gz siblings for every compressible file in dist/ so the
+// Spring app can serve precompressed assets without compressing per request.
+import { readdirSync, readFileSync, statSync, writeFileSync } from "node:fs";
+import { join, extname } from "node:path";
+import { brotliCompressSync, gzipSync, constants } from "node:zlib";
+
+const DIST = new URL("../dist/", import.meta.url).pathname;
+const COMPRESSIBLE = new Set([".html", ".js", ".css", ".json", ".svg", ".txt", ".xml", ".map", ".webmanifest"]);
+const MIN_SIZE = 1024;
+
+const walk = (dir) =>
+  readdirSync(dir).flatMap((name) => {
+    const path = join(dir, name);
+    return statSync(path).isDirectory() ? walk(path) : [path];
+  });
+
+let count = 0;
+for (const file of walk(DIST)) {
+  if (!COMPRESSIBLE.has(extname(file))) continue;
+  const content = readFileSync(file);
+  if (content.length < MIN_SIZE) continue;
+  writeFileSync(`${file}.br`, brotliCompressSync(content, {
+    params: { [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY },
+  }));
+  writeFileSync(`${file}.gz`, gzipSync(content, { level: 9 }));
+  count++;
+}
+console.log(`precompressed ${count} files in dist/`);
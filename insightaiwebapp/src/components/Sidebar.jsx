@@ -4,43 +4,9 @@ import React, { useContext, useRef, useState } from "react";
 import { toast, Toaster } from "react-hot-toast";
 import { SIDE_BAR_DATA } from "../assets/assets"; // Assuming this is the correct path
 import { AppContext } from "../context/AppContext"; // Assuming this is the correct path
+import { API_ENDPOINTS, resolveImageUrl } from "../util/apiEndpoints.js";
 import axiosConfig from "../util/axisConfig.jsx"; // Assuming this utility exists
 
-// --- MISSING UTILITIES AND CONFIG (Added for a complete solution) ---
-
-// 1. API Endpoints (with the missing UPDATE_PROFILE)
-const API_ENDPOINTS = {
-  UPDATE_PROFILE: "/profile/update", // The endpoint to save the new image URL
-  UPLOAD_IMAGE: `https://api.cloudinary.com/v1_1/dnhurv6ti/image/upload`,
-};
-
-// 2. Image Upload Utility (The missing uploadProfileImage.js logic)
-const uploadProfileImage = async (file) => {
-    const formData = new FormData();
-    formData.append("file", file);
-    
-    formData.append("upload_preset", "Insight Ai"); 
-
-    try {
-        const response = await fetch(API_ENDPOINTS.UPLOAD_IMAGE, {
-            method: "POST",
-            body: formData,
-        });
-        const data = await response.json();
-        if (data.secure_url) {
-            return data.secure_url;
-        } else {
-            // Throw the actual error from Cloudinary for better debugging
-            throw new Error(data.error?.message || "Cloudinary upload failed.");
-        }
-    } catch (error) {
-        console.error("Error uploading image to Cloudinary:", error);
-        // Re-throw the error so the calling function can catch it
-        throw error;
-    }
-};
-
-
 // --- ANIMATION VARIANTS ---
 const containerVariants = {
   hidden: { opacity: 0 },
@@ -84,15 +50,13 @@ const Sidebar = () => {
         setIsLoading(true);
 
         try {
-            // Step 1: Upload image to Cloudinary
-            const imageUrl = await uploadProfileImage(file);
-            
-            // Step 2: Update the user's profile in your database
-            const response = await axiosConfig.put(API_ENDPOINTS.UPDATE_PROFILE, {
-                profileImageUrl: imageUrl,
+            // Step 1: Send the file as the raw request body; the API streams it into the store,
+            // renders thumbnails and updates the profile
+            const response = await axiosConfig.post(API_ENDPOINTS.UPLOAD_PROFILE_IMAGE, file, {
+                headers: { "Content-Type": file.type },
             });
 
-            // Step 3: Update the user context to reflect the change
+            // Step 2: Update the user context to reflect the change
             if (response.data && response.data.user) {
                 setUser(response.data.user);
                 setPreview(null); // Clear local preview to use the new URL from context
@@ -104,7 +68,7 @@ const Sidebar = () => {
         } catch (error) {
             // This will now log more specific errors from the upload or the API call
             console.error("Failed to update profile picture:", error);
-            toast.error(error.message || "Couldn't update profile picture.");
+            toast.error(error.response?.data?.message || error.message || "Couldn't update profile picture.");
             setPreview(null); // Revert preview on failure
         } finally {
             setIsLoading(false);
@@ -131,7 +95,7 @@ const Sidebar = () => {
                     <div className="relative">
                         {preview || safeUser?.profileImageUrl ? (
                             <motion.img
-                                src={preview || safeUser.profileImageUrl}
+                                src={preview || resolveImageUrl(safeUser.profileImageUrl)}
                                 alt="profile"
                                 className="w-24 h-24 rounded-full object-cover border-4 border-purple-500/50 shadow-lg"
                                 whileHover={{ scale: 1.05, rotate: 3 }}
@@ -232,6 +232,8 @@ const Signup = () => {
     const [isLoading, setIsLoading] = useState(false);
     const [profilePhoto, setProfilePhoto] = useState(null);
     const [showPassword, setShowPassword] = useState(false);
+    // one key per signup attempt, so a retried submit replays the first response instead of registering twice
+    const idempotencyKey = useRef(crypto.randomUUID?.());
 
     const navigate = useNavigate();
 
@@ -271,6 +273,8 @@ const Signup = () => {
                 email,
                 password,
                 profileImageUrl
+            }, {
+                headers: idempotencyKey.current ? { "Idempotency-Key": idempotencyKey.current } : {}
             });
             if (response.status === 201) {
                 toast.success("Signup successful! Please check your email to verify your account.");
@@ -1,4 +1,4 @@
-export const BASE_URL = "https://insight-ai-club.onrender.com/api/v1.0";
+export const BASE_URL = import.meta.env.VITE_API_BASE_URL ?? "https://insight-ai-club.onrender.com/api/v1.0";
 const CLOUDINARY_CLOUD_NAME = "dnhurv6ti";
 
 export const API_ENDPOINTS = {
@@ -6,8 +6,12 @@ export const API_ENDPOINTS = {
   REGISTER:   "/register",
   GET_USER_INFO: "/profile",
   UPLOAD_IMAGE: `https://api.cloudinary.com/v1_1/${CLOUDINARY_CLOUD_NAME}/image/upload`,
+  UPLOAD_PROFILE_IMAGE: "/profile/image",
 
   // ← Add these:
   FORGOT_PASSWORD: "/auth/forgot-password",
   RESET_PASSWORD:  "/auth/reset-password",
 };
+
+// Images uploaded to the API are stored as paths relative to BASE_URL (e.g. /images/<hash>/256)
+export const resolveImageUrl = (url) => (url && url.startsWith("/") ? `${BASE_URL}${url}` : url);
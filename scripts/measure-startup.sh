@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful GET /health.
+#
+#   scripts/measure-startup.sh [runs]
+#
+# Compares the plain jar (baseline) against the startup-optimised image layout
+# (AOT + CDS archive + lazy init). Build both first:
+#   mvn -Pprod -DskipTests package && cp target/insightai-0.0.1-SNAPSHOT.jar target/baseline.jar
+#   mvn -Pprod,startup -DskipTests package
+# The usual env vars (SQL_*, BREVO_*, JWT_SECRET, FRONTEND_URL, ...) must point at a reachable database.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+HEALTH_URL="http://localhost:${PORT}/api/v1.0/health"
+TARGET=target
+OPT_DIR="${TARGET}/startup-extracted"
+
+wait_for_health() {
+  local start=$1
+  until curl -sf -o /dev/null "$HEALTH_URL"; do sleep 0.02; done
+  echo $(( ($(date +%s%N) - start) / 1000000 ))
+}
+
+run_once() {
+  local start pid ms
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+  ms=$(wait_for_health "$start")
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  echo "$ms"
+}
+
+measure() {
+  local label=$1; shift
+  local total=0 ms
+  for i in $(seq "$RUNS"); do
+    ms=$(run_once "$@")
+    total=$((total + ms))
+    echo "  ${label} run ${i}: ${ms} ms" >&2
+  done
+  echo $((total / RUNS))
+}
+
+if [ ! -f "${OPT_DIR}/app.jsa" ]; then
+  rm -rf "$OPT_DIR"
+  cp "${TARGET}/insightai-0.0.1-SNAPSHOT.jar" "${TARGET}/app.jar"
+  java -Djarmode=tools -jar "${TARGET}/app.jar" extract --destination "$OPT_DIR"
+  (cd "$OPT_DIR" && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true \
+      -Dspring.profiles.active=prod,startup -Dspring.context.exit=onRefresh -jar app.jar > /dev/null)
+fi
+
+baseline=$(measure baseline java -jar "${TARGET}/baseline.jar")
+optimised=$(cd "$OPT_DIR" && measure optimised java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=prod,startup -jar app.jar)
+
+echo "time-to-first-/health (mean of ${RUNS}): baseline ${baseline} ms, optimised ${optimised} ms"
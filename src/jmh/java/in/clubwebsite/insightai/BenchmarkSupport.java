@@ -0,0 +1,74 @@
+package in.clubwebsite.insightai;
+
+import in.clubwebsite.insightai.util.JwtUtil;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/**
+ * Helpers for wiring beans by hand outside of a Spring context.
+ */
+public final class BenchmarkSupport {
+
+    // Base64 of a 256-bit throwaway key, only used by the benchmarks
+    public static final String JWT_SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWp3dC1obWFjLXNoYTI1Ng==";
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Builds a bean through its constructor, matching arguments by type rather than position, so
+     * adding or reordering a service dependency doesn't break the benchmarks. Each parameter gets
+     * the first collaborator it accepts, {@link ObservationRegistry#NOOP} for an observation
+     * registry, and null otherwise.
+     */
+    public static <T> T newBean(Class<T> type, Object... collaborators) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalStateException(type.getSimpleName() + " must have exactly one public constructor");
+        }
+        Constructor<?> constructor = constructors[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = argumentFor(parameterTypes[i], collaborators);
+        }
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot construct " + type.getSimpleName(), e);
+        }
+    }
+
+    public static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secret", JWT_SECRET);
+        return jwtUtil;
+    }
+
+    /**
+     * Sets a field that Spring would normally fill from {@code @Value}.
+     */
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static Object argumentFor(Class<?> parameterType, Object[] collaborators) {
+        for (Object collaborator : collaborators) {
+            if (parameterType.isInstance(collaborator)) {
+                return collaborator;
+            }
+        }
+        if (parameterType == ObservationRegistry.class) {
+            return ObservationRegistry.NOOP;
+        }
+        return null;
+    }
+}
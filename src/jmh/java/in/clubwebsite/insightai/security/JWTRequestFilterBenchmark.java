@@ -0,0 +1,75 @@
+package in.clubwebsite.insightai.security;
+
+import in.clubwebsite.insightai.BenchmarkSupport;
+import in.clubwebsite.insightai.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the JWT filter with an in-memory {@link UserDetailsService},
+ * so the numbers exclude the database lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTRequestFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (req, res) -> { };
+
+    private JWTRequestFilter filter;
+    private String authHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkSupport.newJwtUtil();
+
+        UserDetails user = User.builder()
+                .username("member@insightai.club")
+                .password("unused")
+                .authorities(Collections.emptyList())
+                .build();
+        UserDetailsService stub = username -> user;
+
+        filter = BenchmarkSupport.newBean(JWTRequestFilter.class, stub, jwtUtil);
+        authHeader = "Bearer " + jwtUtil.generateToken(user.getUsername());
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/profile");
+        request.setServletPath("/profile");
+        request.addHeader("Authorization", authHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            // the filter skips authentication when a context is already set, so reset it every call
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object permittedPathRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return request;
+    }
+}
@@ -0,0 +1,37 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.BenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private ProfileService profileService;
+    private NotificationService notificationService;
+
+    @Setup
+    public void setUp() {
+        profileService = BenchmarkSupport.newBean(ProfileService.class);
+        notificationService = BenchmarkSupport.newBean(NotificationService.class);
+        BenchmarkSupport.setField(notificationService, "frontendUrl", "https://insightai.club");
+    }
+
+    @Benchmark
+    public String activationEmail() {
+        return profileService.createActivationEmailBody("Ada Lovelace",
+                "https://insightai.club/api/v1.0/activate?token=5f0c7a3e-2d1b-4e8f-9a6c-1b2d3e4f5a6b");
+    }
+
+    @Benchmark
+    public String aiFactEmail() {
+        return notificationService.createAiFactEmailBody("Ada Lovelace",
+                "The first AI-powered chatbot, ELIZA, was created in 1966 at MIT to mimic a psychotherapist.");
+    }
+}
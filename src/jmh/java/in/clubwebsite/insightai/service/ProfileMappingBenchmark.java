@@ -0,0 +1,59 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.BenchmarkSupport;
+import in.clubwebsite.insightai.dto.ProfileDto;
+import in.clubwebsite.insightai.entity.ProfileEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code toEntity} includes the BCrypt hash, so it is measured separately from the plain copy in {@code toDto}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileMappingBenchmark {
+
+    private ProfileService profileService;
+    private ProfileDto dto;
+    private ProfileEntity entity;
+
+    @Setup
+    public void setUp() {
+        profileService = BenchmarkSupport.newBean(ProfileService.class, new BCryptPasswordEncoder());
+        LocalDateTime now = LocalDateTime.now();
+        dto = ProfileDto.builder()
+                .fullname("Ada Lovelace")
+                .email("ada@insightai.club")
+                .password("correct horse battery staple")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entity = ProfileEntity.builder()
+                .id(42L)
+                .fullname("Ada Lovelace")
+                .email("ada@insightai.club")
+                .password("$2a$10$abcdefghijklmnopqrstuu")
+                .createdAt(now)
+                .updatedAt(now)
+                .isActive(true)
+                .build();
+    }
+
+    @Benchmark
+    public ProfileDto toDto() {
+        return profileService.toDto(entity);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ProfileEntity toEntity() {
+        return profileService.toEntity(dto);
+    }
+}
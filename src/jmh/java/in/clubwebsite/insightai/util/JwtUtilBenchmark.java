@@ -0,0 +1,48 @@
+package in.clubwebsite.insightai.util;
+
+import in.clubwebsite.insightai.BenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkSupport.newJwtUtil();
+        user = User.builder()
+                .username("member@insightai.club")
+                .password("unused")
+                .authorities(Collections.emptyList())
+                .build();
+        token = jwtUtil.generateToken(user.getUsername());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user.getUsername());
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, user);
+    }
+
+    @Benchmark
+    public String refreshToken() {
+        return jwtUtil.refreshToken(token);
+    }
+}
@@ -0,0 +1,71 @@
+package in.clubwebsite.insightai.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-endpoint latencies and error counts for one load-test run.
+ */
+class LatencyStats {
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean ok) {
+        recorders.computeIfAbsent(endpoint, k -> new Recorder()).add(nanos, ok);
+    }
+
+    void print(String mode, double seconds) {
+        System.out.printf("%n=== %s ===%n", mode);
+        System.out.printf("%-24s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        recorders.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> {
+                    long[] sorted = e.getValue().snapshot();
+                    System.out.printf("%-24s %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+                            e.getKey(),
+                            sorted.length / seconds,
+                            e.getValue().errors.get(),
+                            millis(percentile(sorted, 0.50)),
+                            millis(percentile(sorted, 0.99)),
+                            millis(percentile(sorted, 0.999)),
+                            millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+                });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private static final class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] snapshot() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
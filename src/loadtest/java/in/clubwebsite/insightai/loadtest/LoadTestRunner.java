@@ -0,0 +1,197 @@
+package in.clubwebsite.insightai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import in.clubwebsite.insightai.InsightaiApplication;
+import in.clubwebsite.insightai.entity.ProfileEntity;
+import in.clubwebsite.insightai.repository.ProfileRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Boots the application against in-memory H2 and an in-process SMTP server, then drives a
+ * mix of /register, /login, /profile and /auth/forgot-password traffic from virtual-thread
+ * clients. The run is repeated with platform-thread Tomcat and with virtual-thread request
+ * handling so the two can be compared side by side.
+ *
+ * <p>System properties: {@code loadtest.users} (concurrent clients, default 100),
+ * {@code loadtest.accounts} (pre-activated accounts, default 50),
+ * {@code loadtest.seconds} (measured duration, default 30),
+ * {@code loadtest.warmup} (warm-up seconds, default 10).
+ */
+public class LoadTestRunner {
+
+    private static final String CONTEXT_PATH = "/api/v1.0";
+    private static final String PASSWORD = "load-test-password";
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 100);
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.accounts", 50);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 10);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        GreenMail smtp = new GreenMail(new ServerSetup(0, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        smtp.start();
+        try {
+            int smtpPort = smtp.getSmtp().getPort();
+            new LoadTestRunner().run("platform threads", false, smtpPort);
+            new LoadTestRunner().run("virtual threads", true, smtpPort);
+        } finally {
+            smtp.stop();
+        }
+    }
+
+    private void run(String mode, boolean virtualThreads, int smtpPort) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InsightaiApplication.class)
+                .run(appArgs(virtualThreads, smtpPort))) {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + CONTEXT_PATH;
+            List<String> accounts = createActiveAccounts(context.getBean(ProfileRepository.class));
+
+            drive(accounts, WARMUP, new LatencyStats());
+            LatencyStats stats = new LatencyStats();
+            drive(accounts, SECONDS, stats);
+            stats.print(mode + " (" + USERS + " clients, " + SECONDS + "s)", SECONDS);
+        }
+    }
+
+    private static String[] appArgs(boolean virtualThreads, int smtpPort) {
+        return new String[]{
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--app.activity-log.enabled=false",
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + smtpPort,
+                "--spring.mail.username=",
+                "--spring.mail.password=",
+                "--spring.mail.properties.mail.smtp.auth=false",
+                "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                "--spring.mail.properties.mail.smtp.from=noreply@insightai.test",
+                "--app.mail.rate.per-second=100000",
+                "--app.mail.rate.burst=100000",
+                "--app.mail.daily-quota=100000000",
+                // pin every group's limit at the client count so the run measures the server, not shedding
+                "--app.concurrency.initial-limit=" + USERS,
+                "--app.concurrency.min-limit=" + USERS,
+                "--app.concurrency.max-limit=" + USERS,
+                "--jwt.secret=bG9hZC10ZXN0LXNlY3JldC1rZXktZm9yLWp3dC1obWFjLXNoYTI1Ng==",
+                "--app.activation.url=http://localhost",
+                "--insight.ai.frontend.url=http://localhost",
+                "--FRONTEND_URL=http://localhost"
+        };
+    }
+
+    private List<String> createActiveAccounts(ProfileRepository profileRepository) throws Exception {
+        List<String> emails = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String email = "member" + i + "@insightai.test";
+            post("/register", Map.of("fullname", "Member " + i, "email", email, "password", PASSWORD), null);
+            ProfileEntity profile = profileRepository.findByEmail(email).orElseThrow();
+            get("/activate?token=" + profile.getActivationToken(), null);
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    private void drive(List<String> accounts, int seconds, LatencyStats stats) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < USERS; i++) {
+                String email = accounts.get(i % accounts.size());
+                clients.submit(() -> {
+                    String token = null;
+                    while (System.nanoTime() < deadline) {
+                        token = step(email, token, stats);
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * One request from the traffic mix: 10% register, 35% login, 45% profile, 10% forgot-password.
+     * Returns the bearer token the client should use next.
+     */
+    private String step(String email, String token, LatencyStats stats) {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        long start = System.nanoTime();
+        String endpoint;
+        boolean ok;
+        try {
+            if (roll < 10) {
+                endpoint = "POST /register";
+                int n = registrations.incrementAndGet();
+                ok = post("/register", Map.of("fullname", "Visitor " + n,
+                        "email", "visitor" + n + "@insightai.test",
+                        "password", PASSWORD), null).statusCode() == 201;
+            } else if (roll < 45 || token == null) {
+                endpoint = "POST /login";
+                HttpResponse<String> res = post("/login", Map.of("email", email, "password", PASSWORD), null);
+                ok = res.statusCode() == 200;
+                if (ok) {
+                    token = (String) mapper.readValue(res.body(), Map.class).get("token");
+                }
+            } else if (roll < 90) {
+                endpoint = "GET /profile";
+                ok = get("/profile", token).statusCode() == 200;
+            } else {
+                endpoint = "POST /auth/forgot-password";
+                ok = post("/auth/forgot-password", Map.of("email", email), null).statusCode() == 200;
+            }
+        } catch (Exception e) {
+            endpoint = "transport error";
+            ok = false;
+        }
+        stats.record(endpoint, System.nanoTime() - start, ok);
+        return token;
+    }
+
+    private HttpResponse<String> post(String path, Map<String, String> body, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+        return send(request, token);
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(), token);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, String token) throws Exception {
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
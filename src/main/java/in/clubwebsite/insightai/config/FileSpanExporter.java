@@ -0,0 +1,138 @@
+package in.clubwebsite.insightai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes finished spans as JSON lines to a local file, so traces can be inspected
+ * without running a collector or tracing backend. When the file reaches {@code maxBytes} it is
+ * rolled to {@code <file>.1}, older rolls shift up, and anything past {@code maxFiles} is deleted.
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private OutputStream out;
+    private long written;
+
+    /**
+     * @param maxBytes size at which the file is rolled
+     * @param maxFiles rolled files kept next to the live one
+     */
+    public FileSpanExporter(Path file, long maxBytes, int maxFiles) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+        open();
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                byte[] line = mapper.writeValueAsBytes(toJson(span));
+                out.write(line);
+                out.write(NEWLINE);
+                written += line.length + 1;
+            }
+            out.flush();
+            if (written >= maxBytes) {
+                rotate();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to export {} spans: {}", spans.size(), e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            out.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            out.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        written = Files.size(file);
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        try {
+            Files.deleteIfExists(rolled(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path source = rolled(i);
+                if (Files.exists(source)) {
+                    Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxFiles > 0) {
+                Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(file);
+            }
+        } finally {
+            // keep exporting even if a roll failed
+            open();
+        }
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanId());
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochNanos", span.getStartEpochNanos());
+        json.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1000);
+        json.put("status", span.getStatus().getStatusCode().name());
+        json.put("attributes", attributes);
+        return json;
+    }
+}
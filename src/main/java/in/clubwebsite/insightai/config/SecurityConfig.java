@@ -1,9 +1,11 @@
 package in.clubwebsite.insightai.config;
 
+import in.clubwebsite.insightai.security.ConcurrencyLimitFilter;
 import in.clubwebsite.insightai.security.JWTRequestFilter;
 import in.clubwebsite.insightai.service.AppUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,6 +13,7 @@ import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,12 +32,13 @@ public class SecurityConfig {
 
     private final AppUserDetailsService appUserDetailsService;
     private final JWTRequestFilter jwtRequestFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(Customizer.withDefaults())
-                .csrf().disable()
+                .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/status",
@@ -44,16 +48,31 @@ public class SecurityConfig {
                                 "/login",
                                 "/refresh",
                                 "/auth/forgot-password",
-                                "/auth/reset-password"
+                                "/auth/reset-password",
+                                "/images/**",
+                                "/actuator/health"
                         ).permitAll()
+                        .requestMatchers("/admin/**", "/actuator/**", "/members/search").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(m -> m.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(concurrencyLimitFilter, JWTRequestFilter.class);
 
         return http.build();
     }
 
+    /**
+     * The limiter runs inside the security chain above; stop Boot from also registering the
+     * {@code @Component} as a servlet filter, which would make it the first to claim the request.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration() {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -67,8 +86,10 @@ public class SecurityConfig {
         CorsConfiguration cfg = new CorsConfiguration();
         cfg.setAllowedOriginPatterns(Arrays.asList(corsAllowedOrigins.split(",")));
         cfg.setAllowedMethods(List.of("GET","POST","PUT","DELETE","OPTIONS"));
-        cfg.setAllowedHeaders(List.of("Authorization","Content-Type","Accept"));
+        cfg.setAllowedHeaders(List.of("Authorization","Content-Type","Accept","Idempotency-Key"));
         cfg.setAllowCredentials(true);
+        // let browsers reuse preflight results instead of sending OPTIONS before every call
+        cfg.setMaxAge(3600L);
         UrlBasedCorsConfigurationSource src = new UrlBasedCorsConfigurationSource();
         src.registerCorsConfiguration("/**", cfg);
         return src;
@@ -0,0 +1,163 @@
+package in.clubwebsite.insightai.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-origin mode: the app runs at the root context and this filter splits traffic.
+ * Requests under the API prefix are passed on with the prefix presented as the context path,
+ * so security, the JWT filter and the controllers see exactly the paths they see behind
+ * {@code server.servlet.context-path}. Everything else is served from the packaged Vite
+ * bundle, preferring precompressed .br/.gz files and falling back to index.html for SPA routes.
+ * Actuator requests pass straight through, and a missing file under assets/ is a 404 rather
+ * than index.html, so a stale chunk reference fails loudly instead of parsing HTML as script.
+ */
+public class SinglePageAppFilter extends OncePerRequestFilter {
+
+    private static final String STATIC_ROOT = "static/";
+    private static final String INDEX = "index.html";
+    private static final String ASSETS = "assets/";
+    private static final String ACTUATOR = "/actuator";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final String apiPrefix;
+    private final Map<String, ClassPathResource> resources = new ConcurrentHashMap<>();
+
+    public SinglePageAppFilter(String apiPrefix) {
+        this.apiPrefix = apiPrefix;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
+                                    FilterChain chain) throws ServletException, IOException {
+        String uri = req.getRequestURI();
+        if (uri.equals(apiPrefix) || uri.startsWith(apiPrefix + "/")) {
+            chain.doFilter(new ApiRequest(req, apiPrefix), res);
+            return;
+        }
+        if (uri.equals(ACTUATOR) || uri.startsWith(ACTUATOR + "/")) {
+            chain.doFilter(req, res);
+            return;
+        }
+        if (!"GET".equals(req.getMethod()) && !"HEAD".equals(req.getMethod())) {
+            res.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String path = uri.startsWith("/") ? uri.substring(1) : uri;
+        if (path.contains("..")) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (path.isEmpty() || find(path).isEmpty()) {
+            if (path.startsWith(ASSETS)) {
+                res.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            path = INDEX;
+        }
+        serve(path, req, res);
+    }
+
+    private void serve(String path, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        String acceptEncoding = Optional.ofNullable(req.getHeader(HttpHeaders.ACCEPT_ENCODING)).orElse("");
+        ClassPathResource resource = find(path).orElseThrow();
+        String encoding = null;
+        if (accepts(acceptEncoding, "br") && find(path + ".br").isPresent()) {
+            resource = find(path + ".br").get();
+            encoding = "br";
+        } else if (accepts(acceptEncoding, "gzip") && find(path + ".gz").isPresent()) {
+            resource = find(path + ".gz").get();
+            encoding = "gzip";
+        }
+
+        res.setContentType(MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        res.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // Vite fingerprints everything under assets/, so those files never change
+        res.setHeader(HttpHeaders.CACHE_CONTROL, path.startsWith("assets/") ? IMMUTABLE : "no-cache");
+        if (encoding != null) {
+            res.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        res.setContentLengthLong(resource.contentLength());
+        if ("HEAD".equals(req.getMethod())) {
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copy(in, res.getOutputStream());
+        }
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows a coding: listed (or covered by "*") with q &gt; 0.
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        Double explicit = null;
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String name = params[0].trim();
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(coding)) {
+                explicit = q;
+            } else if (name.equals("*")) {
+                wildcard = q;
+            }
+        }
+        if (explicit != null) {
+            return explicit > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private Optional<ClassPathResource> find(String path) {
+        // only hits are cached, so arbitrary SPA routes can't grow the map
+        return Optional.ofNullable(resources.computeIfAbsent(path, p -> {
+            ClassPathResource resource = new ClassPathResource(STATIC_ROOT + p);
+            return resource.isReadable() ? resource : null;
+        }));
+    }
+
+    private static final class ApiRequest extends HttpServletRequestWrapper {
+        private final String contextPath;
+
+        private ApiRequest(HttpServletRequest request, String contextPath) {
+            super(request);
+            this.contextPath = contextPath;
+        }
+
+        @Override
+        public String getContextPath() {
+            return contextPath;
+        }
+
+        @Override
+        public String getServletPath() {
+            return getRequestURI().substring(contextPath.length());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package in.clubwebsite.insightai.config;
+
+import in.clubwebsite.insightai.security.JWTRequestFilter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * The "startup" profile turns on lazy initialization so a cold start only builds what the
+ * first request needs. The security chain stays eager so the first request doesn't pay for it.
+ */
+@Configuration
+@Profile("startup")
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerSecurityBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(SecurityFilterChain.class, JWTRequestFilter.class);
+    }
+}
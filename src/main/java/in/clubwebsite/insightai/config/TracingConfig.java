@@ -0,0 +1,32 @@
+package in.clubwebsite.insightai.config;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Spans come from Micrometer observations: HTTP requests, the security filters, services
+ * annotated with {@code @Observed}, JDBC statements (datasource-micrometer) and outbound mail.
+ * Sampling is head-based via {@code management.tracing.sampling.probability}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Value("${app.tracing.file:logs/traces.jsonl}")
+    private String traceFile;
+
+    @Value("${app.tracing.max-file-size-mb:50}")
+    private long maxFileSizeMb;
+
+    @Value("${app.tracing.max-files:5}")
+    private int maxFiles;
+
+    @Bean
+    public SpanExporter fileSpanExporter() throws IOException {
+        return new FileSpanExporter(Path.of(traceFile), maxFileSizeMb * 1024 * 1024, maxFiles);
+    }
+}
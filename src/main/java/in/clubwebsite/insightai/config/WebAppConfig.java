@@ -0,0 +1,28 @@
+package in.clubwebsite.insightai.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enabled by the "webapp" profile, which also moves the app to the root context path.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.webapp.enabled", havingValue = "true")
+public class WebAppConfig {
+
+    @Value("${app.webapp.api-prefix:/api/v1.0}")
+    private String apiPrefix;
+
+    @Bean
+    public FilterRegistrationBean<SinglePageAppFilter> singlePageAppFilter() {
+        FilterRegistrationBean<SinglePageAppFilter> registration =
+                new FilterRegistrationBean<>(new SinglePageAppFilter(apiPrefix));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -2,12 +2,9 @@ package in.clubwebsite.insightai.controller;
 
 import in.clubwebsite.insightai.dto.ForgotPasswordDto;
 import in.clubwebsite.insightai.dto.ResetPasswordDto;
-import in.clubwebsite.insightai.entity.ProfileEntity;
 import in.clubwebsite.insightai.service.PasswordResetService;
-import in.clubwebsite.insightai.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,8 +13,6 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final PasswordResetService resetService;
-    private final ProfileRepository profileRepo;
-    private final PasswordEncoder passwordEncoder;
 
     @PostMapping("/forgot-password")
     public ResponseEntity<String> forgotPassword(@RequestBody ForgotPasswordDto dto) {
@@ -27,10 +22,7 @@ public class AuthController {
 
     @PostMapping("/reset-password")
     public ResponseEntity<String> resetPassword(@RequestBody ResetPasswordDto dto) {
-        ProfileEntity user = resetService.validatePasswordResetToken(dto.getToken());
-        user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
-        profileRepo.save(user);
-        resetService.clearToken(dto.getToken());
+        resetService.resetPassword(dto.getToken(), dto.getNewPassword());
         return ResponseEntity.ok("Password has been reset successfully.");
     }
 }
@@ -3,6 +3,7 @@ import java.util.*;
 import in.clubwebsite.insightai.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
     private final DashboardService dashboardService;
 
+    @GetMapping
     public ResponseEntity<Map<String, Object>> getDashboardData(){
         Map<String, Object> dashboardData = dashboardService.getDashboardData();
         return ResponseEntity.ok(dashboardData);
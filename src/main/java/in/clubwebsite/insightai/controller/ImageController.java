@@ -0,0 +1,97 @@
+package in.clubwebsite.insightai.controller;
+
+import in.clubwebsite.insightai.service.ImageStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorageService imageStorageService;
+
+    /**
+     * Serves a thumbnail. Ids are content hashes, so a rendered thumbnail never changes and
+     * is cached as immutable. Until it has been rendered the original is served uncached.
+     */
+    @GetMapping("/{hash}/{size}")
+    public void getImage(@PathVariable String hash, @PathVariable int size,
+                         HttpServletRequest req, HttpServletResponse res) throws IOException {
+        Optional<Path> resolved = imageStorageService.resolve(hash, size);
+        if (resolved.isEmpty()) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path file = resolved.get();
+        boolean thumbnail = file.getFileName().toString().equals(size + ".jpg");
+
+        if (thumbnail) {
+            ETag etag = ETag.create("\"" + hash + "-" + size + "\"");
+            res.setHeader(HttpHeaders.ETAG, etag.formattedTag());
+            res.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+            if (notModified(req, etag)) {
+                res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        } else {
+            res.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+
+        long length = Files.size(file);
+        String contentType = Files.probeContentType(file);
+        res.setContentType(contentType != null ? contentType : "image/jpeg");
+        res.setContentLengthLong(length);
+
+        if (Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file straight from the page cache to the socket once we return
+            req.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            req.setAttribute(SENDFILE_START, 0L);
+            req.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            WritableByteChannel out = Channels.newChannel(res.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+
+    /**
+     * If-None-Match per RFC 9110: any listed tag matching by weak comparison, or "*" since the
+     * image exists. (Spring's checkNotModified ignores "*" on GET, hence the hand-rolled check.)
+     */
+    private static boolean notModified(HttpServletRequest req, ETag etag) {
+        for (String header : Collections.list(req.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (ETag candidate : ETag.parse(header)) {
+                if (candidate.isWildcard() || candidate.compare(etag, false)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package in.clubwebsite.insightai.controller;
+
+import in.clubwebsite.insightai.service.MailDeliveryScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Operator controls for bulk mail delivery. Admin-only (see SecurityConfig).
+ */
+@RestController
+@RequestMapping("/admin/mail")
+@RequiredArgsConstructor
+public class MailAdminController {
+
+    private final MailDeliveryScheduler mailDeliveryScheduler;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(status());
+    }
+
+    @PostMapping("/pause")
+    public ResponseEntity<Map<String, Object>> pause() {
+        mailDeliveryScheduler.pause();
+        return ResponseEntity.ok(status());
+    }
+
+    @PostMapping("/resume")
+    public ResponseEntity<Map<String, Object>> resume() {
+        mailDeliveryScheduler.resume();
+        return ResponseEntity.ok(status());
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("paused", mailDeliveryScheduler.isPaused());
+        status.put("remainingDailyQuota", mailDeliveryScheduler.getRemainingDailyQuota());
+        status.put("runningCampaign", mailDeliveryScheduler.getRunningCampaign());
+        status.put("queuedCampaigns", mailDeliveryScheduler.getQueuedCampaigns());
+        return status;
+    }
+}
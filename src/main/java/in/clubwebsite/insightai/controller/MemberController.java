@@ -0,0 +1,44 @@
+package in.clubwebsite.insightai.controller;
+
+import in.clubwebsite.insightai.service.MemberDirectoryService;
+import in.clubwebsite.insightai.service.MemberSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/members")
+@RequiredArgsConstructor
+public class MemberController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final MemberSearchService memberSearchService;
+    private final MemberDirectoryService memberDirectoryService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> listMembers(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int limit,
+                                                           @RequestParam(required = false) Boolean active) {
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        try {
+            return ResponseEntity.ok(memberDirectoryService.getPage(cursor, safeLimit, active));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of(
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchMembers(@RequestParam("q") String query,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return ResponseEntity.ok(memberSearchService.search(query, safePage, safeSize));
+    }
+}
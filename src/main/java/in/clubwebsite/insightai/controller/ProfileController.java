@@ -3,12 +3,18 @@ package in.clubwebsite.insightai.controller;
 import in.clubwebsite.insightai.dto.AuthDto;
 import in.clubwebsite.insightai.dto.ProfileDto;
 import in.clubwebsite.insightai.entity.ProfileEntity;
+import in.clubwebsite.insightai.service.IdempotencyKeyConflictException;
+import in.clubwebsite.insightai.service.IdempotencyKeyInProgressException;
+import in.clubwebsite.insightai.service.IdempotencyService;
+import in.clubwebsite.insightai.service.ImageStorageService;
 import in.clubwebsite.insightai.service.ProfileService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -16,11 +22,32 @@ import java.util.Map;
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final ImageStorageService imageStorageService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/register")
-    public ResponseEntity<ProfileDto> registerProfile(@RequestBody ProfileDto profileDto){
-        ProfileDto registeredProfile = profileService.registerProfile(profileDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(registeredProfile);
+    public ResponseEntity<?> registerProfile(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                             @RequestBody ProfileDto profileDto){
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            ProfileDto registeredProfile = profileService.registerProfile(profileDto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(registeredProfile);
+        }
+        // retries with the same key replay the first response instead of hashing and mailing again
+        try {
+            ProfileDto registeredProfile = idempotencyService.execute("register:" + idempotencyKey,
+                    idempotencyService.fingerprint(profileDto.getFullname(), profileDto.getEmail(),
+                            profileDto.getPassword(), profileDto.getProfileImageUrl()),
+                    () -> profileService.registerProfile(profileDto));
+            return ResponseEntity.status(HttpStatus.CREATED).body(registeredProfile);
+        } catch (IdempotencyKeyConflictException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of(
+                    "message", e.getMessage()
+            ));
+        } catch (IdempotencyKeyInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "message", e.getMessage()
+            ));
+        }
     }
 
     @GetMapping("/activate")
@@ -36,7 +63,7 @@ public class ProfileController {
     @PostMapping("/login")
     public ResponseEntity<Map<String,Object>> login(@RequestBody AuthDto authDto) {
         try {
-            if (!profileService.isAccountActive(authDto.getEmail())) {
+            if (!profileService.isLoginAllowed(authDto.getEmail())) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
                         "message", "Your email is not verified. Please check your inbox for the verification link"
                 ));
@@ -71,6 +98,35 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Takes the image as the raw request body (Content-Type image/*) rather than multipart,
+     * so it streams straight into the store instead of being buffered by the container first.
+     */
+    @PostMapping(value = "/profile/image", consumes = "image/*")
+    public ResponseEntity<Map<String, Object>> uploadProfileImage(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > imageStorageService.getMaxUploadBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of(
+                    "message", "Image is larger than " + imageStorageService.getMaxUploadBytes() + " bytes"
+            ));
+        }
+        String hash;
+        try {
+            hash = imageStorageService.store(request.getInputStream());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of(
+                    "message", e.getMessage()
+            ));
+        }
+        // relative to the API base, so it survives host and scheme changes; the frontend prefixes BASE_URL
+        String imageUrl = "/images/" + hash + "/256";
+
+        ProfileEntity currentUser = profileService.getCurrentProfile();
+        currentUser.setProfileImageUrl(imageUrl);
+        ProfileEntity updatedProfile = profileService.saveProfile(currentUser);
 
+        return ResponseEntity.ok(Map.of(
+                "user", profileService.toDto(updatedProfile)
+        ));
+    }
 
 }
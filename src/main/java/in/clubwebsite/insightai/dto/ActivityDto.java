@@ -0,0 +1,19 @@
+package in.clubwebsite.insightai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ActivityDto {
+    private String type;
+    private String remoteAddr;
+    private String detail;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package in.clubwebsite.insightai.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the member directory, which every signed-in member can page through, so it leaves out email.
+ */
+public interface MemberDirectoryEntry {
+    Long getId();
+    String getFullname();
+    String getProfileImageUrl();
+    Boolean getIsActive();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,18 @@
+package in.clubwebsite.insightai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MemberSearchDto {
+    private Long id;
+    private String fullname;
+    private String email;
+    private String profileImageUrl;
+    private Boolean isActive;
+}
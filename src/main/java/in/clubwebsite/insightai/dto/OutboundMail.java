@@ -0,0 +1,14 @@
+package in.clubwebsite.insightai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboundMail {
+    private String to;
+    private String subject;
+    private String body;
+}
@@ -0,0 +1,15 @@
+package in.clubwebsite.insightai.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slim read-only projection of {@code tbl_profiles} for the member search index, without password or tokens.
+ */
+public interface ProfileSummary {
+    Long getId();
+    String getFullname();
+    String getEmail();
+    String getProfileImageUrl();
+    Boolean getIsActive();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,9 @@
+package in.clubwebsite.insightai.entity;
+
+public enum ActivityType {
+    LOGIN,
+    LOGIN_FAILED,
+    ACTIVATION,
+    PASSWORD_RESET_REQUESTED,
+    PASSWORD_RESET
+}
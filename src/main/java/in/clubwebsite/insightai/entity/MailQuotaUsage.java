@@ -0,0 +1,26 @@
+package in.clubwebsite.insightai.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Mails handed to the SMTP relay per quota day, so the daily cap survives restarts.
+ */
+@Entity
+@Table(name = "tbl_mail_quota")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class MailQuotaUsage {
+    @Id
+    private LocalDate quotaDay;
+
+    @Column(nullable = false)
+    private int sentCount;
+}
@@ -0,0 +1,11 @@
+package in.clubwebsite.insightai.repository;
+
+import in.clubwebsite.insightai.entity.MailQuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface MailQuotaRepository extends JpaRepository<MailQuotaUsage, LocalDate> {
+}
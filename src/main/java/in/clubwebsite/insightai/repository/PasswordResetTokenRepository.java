@@ -1,6 +1,7 @@
 package in.clubwebsite.insightai.repository;
 
 import in.clubwebsite.insightai.entity.PasswordResetToken;
+import in.clubwebsite.insightai.entity.ProfileEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,5 @@ import java.util.Optional;
 @Repository
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
     Optional<PasswordResetToken> findByToken(String token);
+    Optional<PasswordResetToken> findByUser(ProfileEntity user);
 }
@@ -1,7 +1,14 @@
 package in.clubwebsite.insightai.repository;
 
+import in.clubwebsite.insightai.dto.MemberDirectoryEntry;
+import in.clubwebsite.insightai.dto.ProfileSummary;
 import in.clubwebsite.insightai.entity.ProfileEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.*;
 
 public interface ProfileRepository extends JpaRepository<ProfileEntity,Long> {
@@ -11,4 +18,34 @@ public interface ProfileRepository extends JpaRepository<ProfileEntity,Long> {
 
     //SELECT * from tbl_profiles where activation_token = ?
     Optional<ProfileEntity> findByActivationToken(String activationToken);
+
+    //SELECT * from tbl_profiles where is_active = true
+    List<ProfileEntity> findAllByIsActiveTrue();
+
+    //SELECT id, fullname, email, profile_image_url, is_active, created_at from tbl_profiles
+    List<ProfileSummary> findAllProjectedBy();
+
+    String DIRECTORY_SELECT = "select p.id as id, p.fullname as fullname, "
+            + "p.profileImageUrl as profileImageUrl, p.isActive as isActive, p.createdAt as createdAt "
+            + "from ProfileEntity p ";
+    String DIRECTORY_ORDER = " order by p.createdAt desc, p.id desc";
+    String AFTER_CURSOR = "(p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))";
+
+    // Keyset pages over (created_at, id), newest first. Every page is an index range scan.
+    @Query(DIRECTORY_SELECT + DIRECTORY_ORDER)
+    List<MemberDirectoryEntry> findDirectoryPage(Limit limit);
+
+    @Query(DIRECTORY_SELECT + "where " + AFTER_CURSOR + DIRECTORY_ORDER)
+    List<MemberDirectoryEntry> findDirectoryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Limit limit);
+
+    @Query(DIRECTORY_SELECT + "where p.isActive = :active" + DIRECTORY_ORDER)
+    List<MemberDirectoryEntry> findDirectoryPageByActive(@Param("active") Boolean active, Limit limit);
+
+    @Query(DIRECTORY_SELECT + "where p.isActive = :active and " + AFTER_CURSOR + DIRECTORY_ORDER)
+    List<MemberDirectoryEntry> findDirectoryPageByActiveAfter(@Param("active") Boolean active,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id, Limit limit);
+
+    long countByIsActive(Boolean isActive);
 }
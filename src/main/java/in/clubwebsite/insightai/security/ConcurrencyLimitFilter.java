@@ -0,0 +1,115 @@
+package in.clubwebsite.insightai.security;
+
+import in.clubwebsite.insightai.util.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds load with a fast 503 when an endpoint group is already at its adaptive in-flight limit,
+ * so a slow database or SMTP relay can't tie up every Tomcat thread.
+ * Login has its own group so a slow SMTP relay (register, activation, password reset) can't shrink
+ * the login limit. Health checks skip the limiter so they keep working under overload.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.concurrency.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${app.concurrency.min-limit:2}")
+    private int minLimit;
+
+    @Value("${app.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${app.concurrency.target-latency-ms:500}")
+    private long targetLatencyMs;
+
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new LinkedHashMap<>();
+    private final Map<String, Counter> rejections = new LinkedHashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String group : new String[]{"login", "auth", "profile", "dashboard", "default"}) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+                    TimeUnit.MILLISECONDS.toNanos(targetLatencyMs));
+            limits.put(group, limit);
+            Gauge.builder("insightai.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("group", group)
+                    .register(meterRegistry);
+            Gauge.builder("insightai.concurrency.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("group", group)
+                    .register(meterRegistry);
+            rejections.put(group, Counter.builder("insightai.concurrency.rejected")
+                    .tag("group", group)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        // reserved lane: never shed health checks
+        return path.startsWith("/health")
+                || path.startsWith("/status")
+                || path.equals("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
+                                    FilterChain chain) throws ServletException, IOException {
+        String group = groupOf(req.getServletPath());
+        AdaptiveConcurrencyLimit limit = limits.get(group);
+
+        if (!limit.tryAcquire()) {
+            rejections.get(group).increment();
+            res.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            res.setHeader("Retry-After", "1");
+            res.setContentType("application/json");
+            res.getWriter().write("{\"message\":\"Server is busy, please retry shortly\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private static String groupOf(String path) {
+        if (path.startsWith("/login")) {
+            return "login";
+        }
+        // these wait on the mail relay
+        if (path.startsWith("/register") || path.startsWith("/activate") || path.startsWith("/auth")) {
+            return "auth";
+        }
+        if (path.startsWith("/profile")) {
+            return "profile";
+        }
+        if (path.startsWith("/dashboard")) {
+            return "dashboard";
+        }
+        return "default";
+    }
+}
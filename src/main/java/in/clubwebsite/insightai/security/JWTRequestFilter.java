@@ -1,6 +1,8 @@
 package in.clubwebsite.insightai.security;
 
 import in.clubwebsite.insightai.util.JwtUtil;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +24,7 @@ public class JWTRequestFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -34,13 +37,21 @@ public class JWTRequestFilter extends OncePerRequestFilter {
                 || path.startsWith("/status")
                 || path.startsWith("/health")
                 || path.startsWith("/auth/forgot-password")
-                || path.startsWith("/auth/reset-password");
+                || path.startsWith("/auth/reset-password")
+                || path.startsWith("/images/");
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
                                     FilterChain chain) throws ServletException, IOException {
 
+        Observation.createNotStarted("jwt.filter", observationRegistry)
+                .contextualName("jwt authenticate")
+                .observe(() -> authenticate(req));
+        chain.doFilter(req, res);
+    }
+
+    private void authenticate(HttpServletRequest req) {
         String authHeader = req.getHeader("Authorization");
         String email = null, jwt = null;
 
@@ -59,7 +70,5 @@ public class JWTRequestFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(token);
             }
         }
-
-        chain.doFilter(req, res);
     }
 }
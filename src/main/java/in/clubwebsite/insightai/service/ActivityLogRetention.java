@@ -0,0 +1,132 @@
+package in.clubwebsite.insightai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps {@code activity_log} partitioned by month: creates the current and next month's
+ * partitions ahead of time and drops whole partitions past the retention period, so purging
+ * old events is a metadata operation instead of a large DELETE. On PostgreSQL, rows that land
+ * in the default partition are moved into their month's partition when it is created.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityLogRetention {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY = Pattern.compile("activity_log_p\\d{6}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.activity-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.activity-log.retention-months:6}")
+    private int retentionMonths;
+
+    /** A failure here must not abort startup; the nightly run retries. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainPartitionsOnStartup() {
+        try {
+            maintainPartitions();
+        } catch (RuntimeException e) {
+            log.error("activity_log partition maintenance failed at startup, will retry at the next scheduled run", e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Kolkata")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                con.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres"));
+        YearMonth current = YearMonth.now();
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+
+        List<String> existing = postgres ? listPostgresPartitions() : listMysqlPartitions();
+        for (YearMonth month : List.of(current, current.plusMonths(1))) {
+            String name = partitionName(month);
+            if (!existing.contains(name)) {
+                if (postgres) {
+                    createPostgresPartition(name, month);
+                } else {
+                    createMysqlPartition(name, month);
+                }
+                log.info("Created activity_log partition {}", name);
+            }
+        }
+        for (String name : existing) {
+            YearMonth month = YearMonth.parse(name.substring(name.length() - 6), SUFFIX);
+            if (month.isBefore(oldestKept)) {
+                jdbcTemplate.execute(postgres
+                        ? "DROP TABLE IF EXISTS " + name
+                        : "ALTER TABLE activity_log DROP PARTITION " + name);
+                log.info("Dropped activity_log partition {}", name);
+            }
+        }
+        if (postgres) {
+            jdbcTemplate.update("DELETE FROM activity_log_default WHERE created_at < ?", oldestKept.atDay(1).atStartOfDay());
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "activity_log_p" + month.format(SUFFIX);
+    }
+
+    private List<String> listPostgresPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = 'activity_log'", String.class)
+                .stream().filter(name -> MONTHLY.matcher(name).matches()).toList();
+    }
+
+    /**
+     * Creates the partition detached, moves in any rows the default partition caught for that
+     * month, then attaches it; attaching directly would fail while the default still holds them.
+     */
+    private void createPostgresPartition(String name, YearMonth month) {
+        String from = "'" + month.atDay(1) + "'";
+        String to = "'" + month.plusMonths(1).atDay(1) + "'";
+        String range = "created_at >= " + from + " AND created_at < " + to;
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE activity_log INCLUDING DEFAULTS)");
+            jdbcTemplate.execute("INSERT INTO " + name + " SELECT * FROM activity_log_default WHERE " + range);
+            jdbcTemplate.execute("DELETE FROM activity_log_default WHERE " + range);
+            jdbcTemplate.execute("ALTER TABLE activity_log ATTACH PARTITION " + name
+                    + " FOR VALUES FROM (" + from + ") TO (" + to + ")");
+        });
+    }
+
+    private List<String> listMysqlPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activity_log' "
+                        + "AND PARTITION_NAME <> 'pmax'", String.class);
+    }
+
+    private void createMysqlPartition(String name, YearMonth month) {
+        // split the catch-all partition; partitions must stay in ascending order, so only
+        // months after the newest existing partition can be added this way
+        jdbcTemplate.execute("ALTER TABLE activity_log REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION " + name + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+}
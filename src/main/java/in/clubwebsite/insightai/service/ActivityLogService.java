@@ -0,0 +1,170 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.ActivityDto;
+import in.clubwebsite.insightai.entity.ActivityType;
+import in.clubwebsite.insightai.util.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only log of auth events (logins, failed logins, activations, password resets).
+ * {@link #record} only publishes into a lock-free ring buffer, so auth calls never wait on the
+ * database. A single writer thread drains the buffer and inserts in JDBC batches.
+ * When the buffer is full the event is dropped and counted rather than blocking the caller.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityLogService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_log (event_type, email, remote_addr, detail, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String RECENT_SQL =
+            "SELECT event_type, remote_addr, detail, created_at FROM activity_log"
+                    + " WHERE email = ? ORDER BY created_at DESC LIMIT ?";
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.activity-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.activity-log.buffer-size:8192}")
+    private int bufferSize;
+
+    @Value("${app.activity-log.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.activity-log.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private MpscRingBuffer<ActivityEvent> buffer;
+    private Counter dropped;
+    private Counter written;
+    private Counter failedBatches;
+    private Thread writer;
+    private volatile boolean running;
+
+    private record ActivityEvent(ActivityType type, String email, String remoteAddr, String detail,
+                                 LocalDateTime createdAt) {
+    }
+
+    @PostConstruct
+    void start() {
+        buffer = new MpscRingBuffer<>(bufferSize);
+        Gauge.builder("insightai.activity_log.buffered", buffer, MpscRingBuffer::size).register(meterRegistry);
+        dropped = Counter.builder("insightai.activity_log.dropped").register(meterRegistry);
+        written = Counter.builder("insightai.activity_log.written").register(meterRegistry);
+        failedBatches = Counter.builder("insightai.activity_log.failed_batches").register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "activity-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void record(ActivityType type, String email) {
+        record(type, email, null);
+    }
+
+    public void record(ActivityType type, String email, String detail) {
+        if (!enabled) {
+            return;
+        }
+        ActivityEvent event = new ActivityEvent(type, email, currentRemoteAddr(), detail, LocalDateTime.now());
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Newest events for one account, served by the (email, created_at) index.
+     * Events still in the buffer are not visible yet.
+     */
+    public List<ActivityDto> findRecent(String email, int limit) {
+        if (!enabled) {
+            return List.of();
+        }
+        return jdbcTemplate.query(RECENT_SQL, (rs, row) -> ActivityDto.builder()
+                .type(rs.getString("event_type"))
+                .remoteAddr(rs.getString("remote_addr"))
+                .detail(rs.getString("detail"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .build(), email, limit);
+    }
+
+    private void writeLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        long backoffMs = flushIntervalMs;
+        while (running || buffer.size() > 0) {
+            if (batch.isEmpty() && buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                continue;
+            }
+            try {
+                insert(batch);
+                written.increment(batch.size());
+                batch.clear();
+                backoffMs = flushIntervalMs;
+            } catch (Exception e) {
+                // keep the batch and retry; new events pile up in the buffer and overflow is counted
+                failedBatches.increment();
+                log.warn("Activity log batch of {} failed, retrying in {} ms: {}", batch.size(), backoffMs, e.getMessage());
+                if (!running) {
+                    dropped.increment(batch.size());
+                    batch.clear();
+                    break;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void insert(List<ActivityEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+            ps.setString(1, event.type().name());
+            ps.setString(2, event.email());
+            ps.setString(3, event.remoteAddr());
+            ps.setString(4, event.detail());
+            ps.setTimestamp(5, Timestamp.valueOf(event.createdAt()));
+        });
+    }
+
+    private static String currentRemoteAddr() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
@@ -2,19 +2,36 @@ package in.clubwebsite.insightai.service;
 
 import in.clubwebsite.insightai.entity.ProfileEntity;
 import in.clubwebsite.insightai.repository.ProfileRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
+@Observed
 @RequiredArgsConstructor
 public class AppUserDetailsService implements UserDetailsService {
     private final ProfileRepository profileRepository;
+
+    // comma-separated emails that get ROLE_ADMIN (mail controls, member search, metrics)
+    @Value("${app.admin.emails:}")
+    private String adminEmails;
+
+    private Set<String> admins;
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
@@ -23,7 +40,21 @@ public class AppUserDetailsService implements UserDetailsService {
         return User.builder()
                 .username(existingProfile.getEmail())
                 .password(existingProfile.getPassword())
-                .authorities(Collections.emptyList())
+                .authorities(isAdmin(existingProfile.getEmail())
+                        ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                        : Collections.emptyList())
                 .build();
     }
+
+    @PostConstruct
+    void init() {
+        admins = Arrays.stream(adminEmails.split(","))
+                .map(e -> e.trim().toLowerCase(Locale.ROOT))
+                .filter(e -> !e.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private boolean isAdmin(String email) {
+        return email != null && admins.contains(email.toLowerCase(Locale.ROOT));
+    }
 }
@@ -0,0 +1,79 @@
+package in.clubwebsite.insightai.service;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs dashboard widgets concurrently on virtual threads. Each widget has its own deadline and
+ * fallback, so the response takes as long as the slowest widget (capped by its deadline) rather
+ * than the sum of all of them. The caller's security and tracing context is carried into every widget.
+ */
+@Component
+@Slf4j
+public class DashboardComposer {
+
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    public record Widget(String name, Supplier<Object> source, Duration deadline, Object fallback) {
+    }
+
+    /**
+     * Returns one entry per widget in the given order, plus a "degraded" list naming every
+     * widget that timed out or failed and was replaced by its fallback.
+     */
+    public Map<String, Object> compose(List<Widget> widgets) {
+        ExecutorService executor = ContextExecutorService.wrap(
+                new DelegatingSecurityContextExecutorService(virtualThreads), snapshotFactory);
+        long start = System.nanoTime();
+
+        Map<Widget, Future<Object>> futures = new LinkedHashMap<>();
+        for (Widget widget : widgets) {
+            futures.put(widget, executor.submit(widget.source()::get));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<String> degraded = new ArrayList<>();
+        for (Map.Entry<Widget, Future<Object>> entry : futures.entrySet()) {
+            Widget widget = entry.getKey();
+            Future<Object> future = entry.getValue();
+            long remaining = widget.deadline().toNanos() - (System.nanoTime() - start);
+            try {
+                result.put(widget.name(), future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Dashboard widget '{}' missed its {} ms deadline", widget.name(), widget.deadline().toMillis());
+                result.put(widget.name(), widget.fallback());
+                degraded.add(widget.name());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                result.put(widget.name(), widget.fallback());
+                degraded.add(widget.name());
+            } catch (ExecutionException e) {
+                log.warn("Dashboard widget '{}' failed: {}", widget.name(), e.getCause().getMessage());
+                result.put(widget.name(), widget.fallback());
+                degraded.add(widget.name());
+            }
+        }
+        result.put("degraded", degraded);
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        virtualThreads.shutdownNow();
+    }
+}
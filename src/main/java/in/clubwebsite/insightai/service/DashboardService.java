@@ -1,18 +1,44 @@
 package in.clubwebsite.insightai.service;
 
-import in.clubwebsite.insightai.entity.ProfileEntity;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+
+import java.time.Duration;
 import java.util.*;
 
 @Service
+@Observed
 @RequiredArgsConstructor
 public class DashboardService {
     private final ProfileService profileService;
+    private final MemberDirectoryService memberDirectoryService;
+    private final NotificationService notificationService;
+    private final DashboardComposer dashboardComposer;
+    private final ActivityLogService activityLogService;
+
+    private static final int RECENT_MEMBERS = 5;
+    private static final int RECENT_ACTIVITY = 5;
 
     public Map<String,Object> getDashboardData(){
-        ProfileEntity profile = profileService.getCurrentProfile();
-        Map<String, Object> returnValue = new LinkedHashMap<>();
-        return returnValue;
+        return dashboardComposer.compose(List.of(
+                new DashboardComposer.Widget("profile",
+                        () -> profileService.toDto(profileService.getCurrentProfile()),
+                        Duration.ofMillis(800), null),
+                new DashboardComposer.Widget("membershipStats",
+                        memberDirectoryService::getCounts,
+                        Duration.ofMillis(200), Map.of()),
+                new DashboardComposer.Widget("newestMembers",
+                        () -> memberDirectoryService.getRecentMembers(RECENT_MEMBERS),
+                        Duration.ofMillis(500), List.of()),
+                new DashboardComposer.Widget("recentActivity",
+                        () -> activityLogService.findRecent(
+                                SecurityContextHolder.getContext().getAuthentication().getName(), RECENT_ACTIVITY),
+                        Duration.ofMillis(300), List.of()),
+                new DashboardComposer.Widget("todaysFact",
+                        notificationService::getTodaysFact,
+                        Duration.ofMillis(100), "")
+        ));
     }
 }
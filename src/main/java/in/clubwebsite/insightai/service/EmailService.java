@@ -1,5 +1,6 @@
 package in.clubwebsite.insightai.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
@@ -14,6 +15,7 @@ public class EmailService {
     @Value("${spring.mail.properties.mail.smtp.from}")
     private String fromEmail;
 
+    @Observed(name = "mail.send", contextualName = "smtp send")
     public  void  sendEmail(String to,String subject,String body){
         try {
             SimpleMailMessage message = new SimpleMailMessage();
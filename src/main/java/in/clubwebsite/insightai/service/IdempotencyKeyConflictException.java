@@ -0,0 +1,11 @@
+package in.clubwebsite.insightai.service;
+
+/**
+ * Thrown when an idempotency key is reused with a request payload that differs from the first one.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
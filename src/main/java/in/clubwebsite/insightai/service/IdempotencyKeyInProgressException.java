@@ -0,0 +1,11 @@
+package in.clubwebsite.insightai.service;
+
+/**
+ * Thrown to a duplicate request when the original with the same idempotency key is still running.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,131 @@
+package in.clubwebsite.insightai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs an action at most once per idempotency key. A duplicate that arrives while the first
+ * request is still running waits for it, up to app.idempotency.wait-ms, and is then told the
+ * original is still in progress. A duplicate that arrives later gets the stored result replayed.
+ * Failures of any kind are not stored, so a client can retry after an error.
+ * Fingerprints are HMACs under a key generated per process, so the in-memory entries never hold
+ * a digest of a password that could be brute-forced offline; they only need to outlive the entries.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SecretKeySpec fingerprintKey = newFingerprintKey();
+
+    @Value("${app.idempotency.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${app.idempotency.wait-ms:2000}")
+    private long waitMs;
+
+    private record Entry(String fingerprint, CompletableFuture<Object> result, long createdAt) {
+    }
+
+    /**
+     * @param fingerprint identifies the request payload; reusing a key with a different payload is rejected
+     * @throws IdempotencyKeyConflictException if the key was already used for a different payload
+     * @throws IdempotencyKeyInProgressException if the original request did not finish within the wait
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String fingerprint, Supplier<T> action) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        Entry entry = new Entry(fingerprint, mine, System.nanoTime());
+        Entry existing = entries.putIfAbsent(key, entry);
+
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyConflictException("Idempotency key was already used for a different request");
+            }
+            log.debug("Replaying result for idempotency key {}", key);
+            return (T) await(existing.result());
+        }
+
+        try {
+            T result = action.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            // also covers anything thrown past the catch, so waiting duplicates are never stranded
+            if (!mine.isDone()) {
+                mine.completeExceptionally(new IllegalStateException("Original request did not complete"));
+            }
+            if (mine.isCompletedExceptionally()) {
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    /**
+     * HMAC-SHA256 over the given request fields, for use as the fingerprint passed to {@link #execute}.
+     */
+    public String fingerprint(String... fields) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(fingerprintKey);
+            for (String field : fields) {
+                mac.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+                mac.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long cutoff = System.nanoTime() - Duration.ofMinutes(ttlMinutes).toNanos();
+        entries.values().removeIf(entry -> entry.result().isDone() && entry.createdAt() - cutoff < 0);
+    }
+
+    private static SecretKeySpec newFingerprintKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException("A request with this idempotency key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the original request");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package in.clubwebsite.insightai.service;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store for profile images. Uploads are streamed to disk while being hashed,
+ * so the request never holds the whole file in memory; the SHA-256 of the bytes is the image id.
+ * An upload is cut off as soon as it passes {@code app.images.max-upload-bytes}.
+ * Thumbnails are rendered on a small background pool after the upload returns, and re-rendered
+ * lazily on a later request if that failed. Images over {@code app.images.max-pixels} are rejected
+ * from their header before anything is decoded.
+ *
+ * <p>Layout: {@code <root>/<first two hex chars>/<hash>/original.<ext>} and {@code <size>.jpg} per thumbnail.
+ */
+@Service
+@Slf4j
+public class ImageStorageService {
+
+    public static final List<Integer> THUMBNAIL_SIZES = List.of(64, 128, 256);
+
+    private static final Set<String> ALLOWED_FORMATS = Set.of("png", "jpeg", "gif", "bmp");
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final long RETRY_AFTER_FAILURE_MS = 10 * 60 * 1000;
+
+    @Value("${app.images.root:data/images}")
+    private String root;
+
+    @Value("${app.images.max-pixels:25000000}")
+    private long maxPixels;
+
+    @Value("${app.images.max-upload-bytes:5242880}")
+    private long maxUploadBytes;
+
+    private final Set<String> rendering = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> failedAt = new ConcurrentHashMap<>();
+
+    private Path rootDir;
+    private ExecutorService resizePool;
+
+    @PostConstruct
+    void init() throws IOException {
+        rootDir = Path.of(root).toAbsolutePath();
+        Files.createDirectories(rootDir);
+        // carry the uploading request's trace into the resize work
+        resizePool = ContextExecutorService.wrap(Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "image-resize");
+            t.setDaemon(true);
+            return t;
+        }), ContextSnapshotFactory.builder().build());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        resizePool.shutdownNow();
+    }
+
+    /**
+     * Streams the upload into the store and schedules thumbnail generation.
+     * Re-uploading identical bytes is a no-op and returns the same id.
+     */
+    public String store(InputStream upload) throws IOException {
+        Path temp = Files.createTempFile(rootDir, "upload-", ".tmp");
+        try {
+            MessageDigest sha256 = newDigest();
+            try (InputStream in = new DigestInputStream(upload, sha256);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[8192];
+                long total = 0;
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    total += n;
+                    if (total > maxUploadBytes) {
+                        throw new IllegalArgumentException("Image is larger than " + maxUploadBytes + " bytes");
+                    }
+                    out.write(buffer, 0, n);
+                }
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String format = inspect(temp);
+
+            Path dir = directoryFor(hash);
+            Path original = dir.resolve("original." + format);
+            if (!Files.exists(original)) {
+                Files.createDirectories(dir);
+                Files.move(temp, original, StandardCopyOption.ATOMIC_MOVE);
+            }
+            failedAt.remove(hash);
+            scheduleThumbnails(hash, original);
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public long getMaxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    /**
+     * Resolves a stored variant: a thumbnail size, or the original if that thumbnail isn't rendered yet
+     * (in which case rendering is queued again).
+     */
+    public Optional<Path> resolve(String hash, int size) throws IOException {
+        if (!HASH.matcher(hash).matches() || !THUMBNAIL_SIZES.contains(size)) {
+            return Optional.empty();
+        }
+        Path thumbnail = directoryFor(hash).resolve(size + ".jpg");
+        if (Files.exists(thumbnail)) {
+            return Optional.of(thumbnail);
+        }
+        Optional<Path> original = findOriginal(hash);
+        original.ifPresent(path -> scheduleThumbnails(hash, path));
+        return original;
+    }
+
+    private Optional<Path> findOriginal(String hash) throws IOException {
+        Path dir = directoryFor(hash);
+        if (!Files.isDirectory(dir)) {
+            return Optional.empty();
+        }
+        try (var files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("original.")).findFirst();
+        }
+    }
+
+    /**
+     * Queues thumbnail rendering unless it is already queued, every size exists, or it failed recently.
+     */
+    private void scheduleThumbnails(String hash, Path original) {
+        if (Files.exists(original.resolveSibling(THUMBNAIL_SIZES.get(THUMBNAIL_SIZES.size() - 1) + ".jpg"))) {
+            return;
+        }
+        Long failed = failedAt.get(hash);
+        if (failed != null && System.currentTimeMillis() - failed < RETRY_AFTER_FAILURE_MS) {
+            return;
+        }
+        if (!rendering.add(hash)) {
+            return;
+        }
+        resizePool.submit(() -> {
+            try {
+                generateThumbnails(original);
+                failedAt.remove(hash);
+            } catch (IOException | RuntimeException e) {
+                failedAt.put(hash, System.currentTimeMillis());
+                log.warn("Thumbnail generation failed for {}: {}", hash, e.toString());
+            } finally {
+                rendering.remove(hash);
+            }
+        });
+    }
+
+    private void generateThumbnails(Path original) throws IOException {
+        BufferedImage source = decode(original);
+        // write the largest size last; its presence marks the set as complete
+        for (int size : THUMBNAIL_SIZES) {
+            Path target = original.resolveSibling(size + ".jpg");
+            Path temp = original.resolveSibling(size + ".jpg.tmp");
+            ImageIO.write(scale(source, size), "jpg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Decodes with source subsampling, so a large original only ever materialises at roughly
+     * twice the biggest thumbnail size.
+     */
+    private BufferedImage decode(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = readerFor(in);
+            try {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                checkPixels(width, height);
+                int target = THUMBNAIL_SIZES.get(THUMBNAIL_SIZES.size() - 1) * 2;
+                int step = Math.max(1, Math.min(width, height) / target);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Center-crops to a square and scales to size x size on a white background (JPEG has no alpha).
+     */
+    private static BufferedImage scale(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+
+        BufferedImage out = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.drawImage(source, 0, 0, size, size, x, y, x + side, y + side, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /**
+     * Checks format and dimensions from the image header only, and returns the format name.
+     */
+    private String inspect(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = readerFor(in);
+            try {
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                if (!ALLOWED_FORMATS.contains(format)) {
+                    throw new IllegalArgumentException("Unsupported image format: " + format);
+                }
+                int width, height;
+                try {
+                    width = reader.getWidth(0);
+                    height = reader.getHeight(0);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Unreadable image");
+                }
+                checkPixels(width, height);
+                return format;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void checkPixels(int width, int height) {
+        if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+            throw new IllegalArgumentException("Image is too large: " + width + "x" + height);
+        }
+    }
+
+    private static ImageReader readerFor(ImageInputStream in) {
+        Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+        if (readers == null || !readers.hasNext()) {
+            throw new IllegalArgumentException("Unsupported image format");
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+
+    private Path directoryFor(String hash) {
+        return rootDir.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.OutboundMail;
+import in.clubwebsite.insightai.entity.MailQuotaUsage;
+import in.clubwebsite.insightai.repository.MailQuotaRepository;
+import in.clubwebsite.insightai.util.TokenBucket;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Paces outbound mail so we stay inside the SMTP relay's per-second and per-day limits.
+ * Transactional mail (activation, password reset) is sent on the caller's thread and always
+ * takes tokens ahead of bulk mail. Bulk campaigns run one at a time on a background thread,
+ * spread evenly across the configured window, and can be paused and resumed mid-run.
+ *
+ * <p>The daily count lives in an atomic counter so senders never serialize on it, and is flushed to
+ * {@code tbl_mail_quota} every few seconds (and on shutdown) so a restart doesn't reset it.
+ * At most {@code app.mail.bulk.max-queued} campaigns wait at a time, and a new campaign with the
+ * same name replaces the queued one (or stops the running one) so stale content is never sent.
+ */
+@Service
+@Observed
+@RequiredArgsConstructor
+@Slf4j
+public class MailDeliveryScheduler {
+
+    private final EmailService emailService;
+    private final MailQuotaRepository mailQuotaRepository;
+
+    @Value("${app.mail.rate.per-second:5}")
+    private double ratePerSecond;
+
+    @Value("${app.mail.rate.burst:5}")
+    private int burst;
+
+    @Value("${app.mail.daily-quota:300}")
+    private int dailyQuota;
+
+    @Value("${app.mail.transactional-reserve:50}")
+    private int transactionalReserve;
+
+    @Value("${app.mail.bulk.window-minutes:120}")
+    private long bulkWindowMinutes;
+
+    @Value("${app.mail.quota.zone:UTC}")
+    private String quotaZone;
+
+    @Value("${app.mail.bulk.max-queued:4}")
+    private int maxQueuedCampaigns;
+
+    private final AtomicInteger transactionalWaiting = new AtomicInteger();
+    private final Object pauseLock = new Object();
+    private final Object queueLock = new Object();
+    private final Map<String, Campaign> pendingCampaigns = new LinkedHashMap<>();
+    private Campaign runningCampaign;
+
+    private TokenBucket tokenBucket;
+    private ZoneId zone;
+    private ExecutorService bulkExecutor;
+
+    private final AtomicReference<QuotaCounter> quota = new AtomicReference<>();
+    private volatile boolean paused;
+
+    @PostConstruct
+    void init() {
+        tokenBucket = new TokenBucket(burst, ratePerSecond);
+        zone = ZoneId.of(quotaZone);
+        quota.set(loadQuota(LocalDate.now(zone)));
+        // carry the submitting trace into the campaign thread
+        bulkExecutor = ContextExecutorService.wrap(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "bulk-mail-dispatcher");
+            t.setDaemon(true);
+            return t;
+        }), ContextSnapshotFactory.builder().build());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkExecutor.shutdownNow();
+        flushQuota();
+    }
+
+    /**
+     * Sends a transactional mail right away, waiting only for a rate token.
+     * Bulk campaigns yield to transactional senders while any are waiting.
+     */
+    public void sendTransactional(String to, String subject, String body) {
+        QuotaCounter reserved;
+        transactionalWaiting.incrementAndGet();
+        try {
+            reserved = tryReserveQuota(true);
+            if (reserved == null) {
+                throw new RuntimeException("Daily mail quota exhausted");
+            }
+            try {
+                awaitToken();
+            } catch (InterruptedException e) {
+                refundQuota(reserved);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting to send mail");
+            }
+        } finally {
+            transactionalWaiting.decrementAndGet();
+        }
+        try {
+            emailService.sendEmail(to, subject, body);
+        } catch (RuntimeException e) {
+            refundQuota(reserved);
+            throw e;
+        }
+    }
+
+    /**
+     * Queues a bulk campaign. Campaigns run one after another; each one is spread across
+     * the bulk window so the relay sees a smooth send rate instead of a burst.
+     * A campaign with the same name as a queued or running one supersedes it.
+     *
+     * @return false if the queue is full and the campaign was dropped
+     */
+    public boolean submitCampaign(String name, List<OutboundMail> mails) {
+        Campaign campaign = new Campaign(name, mails);
+        synchronized (queueLock) {
+            boolean replacesQueued = pendingCampaigns.containsKey(name);
+            // check capacity before touching the running campaign, so a rejected submit stops nothing
+            if (!replacesQueued && pendingCampaigns.size() >= maxQueuedCampaigns) {
+                log.warn("Campaign '{}' dropped: {} campaigns already queued", name, maxQueuedCampaigns);
+                return false;
+            }
+            if (runningCampaign != null && runningCampaign.name.equals(name)) {
+                runningCampaign.superseded = true;
+            }
+            pendingCampaigns.put(name, campaign);
+            if (replacesQueued) {
+                log.info("Campaign '{}' replaced a queued run that had not started", name);
+                return true;
+            }
+        }
+        bulkExecutor.execute(this::runNextCampaign);
+        return true;
+    }
+
+    public List<String> getQueuedCampaigns() {
+        synchronized (queueLock) {
+            return new ArrayList<>(pendingCampaigns.keySet());
+        }
+    }
+
+    public String getRunningCampaign() {
+        synchronized (queueLock) {
+            return runningCampaign == null ? null : runningCampaign.name;
+        }
+    }
+
+    public void pause() {
+        paused = true;
+        log.info("Bulk mail delivery paused");
+    }
+
+    public void resume() {
+        synchronized (pauseLock) {
+            paused = false;
+            pauseLock.notifyAll();
+        }
+        log.info("Bulk mail delivery resumed");
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public int getRemainingDailyQuota() {
+        return Math.max(0, dailyQuota - currentQuota().sent.get());
+    }
+
+    private void runNextCampaign() {
+        Campaign campaign;
+        synchronized (queueLock) {
+            Iterator<Campaign> it = pendingCampaigns.values().iterator();
+            if (!it.hasNext()) {
+                return;
+            }
+            campaign = it.next();
+            it.remove();
+            runningCampaign = campaign;
+        }
+        try {
+            runCampaign(campaign);
+        } finally {
+            synchronized (queueLock) {
+                runningCampaign = null;
+            }
+        }
+    }
+
+    private void runCampaign(Campaign campaign) {
+        String name = campaign.name;
+        List<OutboundMail> mails = campaign.mails;
+        if (mails.isEmpty()) {
+            return;
+        }
+        long intervalNanos = Duration.ofMinutes(bulkWindowMinutes).toNanos() / mails.size();
+        long nextSendAt = System.nanoTime();
+        int sent = 0, failed = 0;
+        QuotaCounter reserved = null;
+        log.info("Campaign '{}' started: {} mails over {} minutes", name, mails.size(), bulkWindowMinutes);
+
+        try {
+            for (OutboundMail mail : mails) {
+                sleepUntil(nextSendAt);
+                awaitResume();
+                while (transactionalWaiting.get() > 0) {
+                    Thread.sleep(10);
+                }
+                while (!campaign.superseded && (reserved = tryReserveQuota(false)) == null) {
+                    log.info("Campaign '{}' hit the daily quota after {} mails, waiting for reset", name, sent);
+                    sleepUntilNextQuotaDay(campaign);
+                }
+                if (!campaign.superseded) {
+                    awaitToken();
+                }
+                if (campaign.superseded) {
+                    log.info("Campaign '{}' superseded by a newer run after {} mails", name, sent);
+                    return;
+                }
+                try {
+                    emailService.sendEmail(mail.getTo(), mail.getSubject(), mail.getBody());
+                    sent++;
+                } catch (Exception e) {
+                    refundQuota(reserved);
+                    failed++;
+                    log.warn("Campaign '{}' failed to send to {}: {}", name, mail.getTo(), e.getMessage());
+                }
+                reserved = null;
+                nextSendAt = Math.max(nextSendAt + intervalNanos, System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Campaign '{}' interrupted after {} mails", name, sent);
+            return;
+        } finally {
+            // a reservation not followed by a send attempt (superseded, interrupted) goes back
+            if (reserved != null) {
+                refundQuota(reserved);
+            }
+        }
+        log.info("Campaign '{}' completed: {} sent, {} failed", name, sent, failed);
+    }
+
+    private void awaitToken() throws InterruptedException {
+        while (!tokenBucket.tryAcquire()) {
+            TimeUnit.NANOSECONDS.sleep(Math.max(tokenBucket.nanosUntilAvailable(), 1_000_000));
+        }
+    }
+
+    private void awaitResume() throws InterruptedException {
+        synchronized (pauseLock) {
+            while (paused) {
+                pauseLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Takes one mail from today's quota.
+     *
+     * @return the day's counter to refund against, or null if the limit is reached
+     */
+    private QuotaCounter tryReserveQuota(boolean transactional) {
+        QuotaCounter counter = currentQuota();
+        int limit = transactional ? dailyQuota : dailyQuota - transactionalReserve;
+        int sent;
+        do {
+            sent = counter.sent.get();
+            if (sent >= limit) {
+                return null;
+            }
+        } while (!counter.sent.compareAndSet(sent, sent + 1));
+        return counter;
+    }
+
+    /**
+     * Gives back the quota taken for a mail the relay did not accept. A refund for a day that has
+     * since rolled over lands on that day's counter and so no longer matters.
+     */
+    private void refundQuota(QuotaCounter counter) {
+        counter.sent.updateAndGet(sent -> Math.max(0, sent - 1));
+    }
+
+    /**
+     * Writes the day's count to {@code tbl_mail_quota} if it changed since the last flush.
+     * A crash loses at most one interval of counts.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.quota.flush-ms:5000}")
+    public synchronized void flushQuota() {
+        QuotaCounter counter = quota.get();
+        if (counter == null) {
+            return;
+        }
+        int sent = counter.sent.get();
+        if (sent == counter.persisted) {
+            return;
+        }
+        try {
+            mailQuotaRepository.save(new MailQuotaUsage(counter.day, sent));
+            counter.persisted = sent;
+        } catch (RuntimeException e) {
+            log.warn("Could not persist mail quota for {}: {}", counter.day, e.getMessage());
+        }
+    }
+
+    private QuotaCounter currentQuota() {
+        QuotaCounter counter = quota.get();
+        LocalDate today = LocalDate.now(zone);
+        while (!counter.day.equals(today)) {
+            // the first caller after midnight installs the new day; the others use whatever won
+            if (quota.compareAndSet(counter, loadQuota(today))) {
+                log.info("Mail quota rolled over to {}", today);
+            }
+            counter = quota.get();
+        }
+        return counter;
+    }
+
+    private QuotaCounter loadQuota(LocalDate day) {
+        int sent;
+        try {
+            sent = mailQuotaRepository.findById(day).map(MailQuotaUsage::getSentCount).orElse(0);
+        } catch (RuntimeException e) {
+            log.warn("Could not load mail quota for {}, counting from zero: {}", day, e.getMessage());
+            sent = 0;
+        }
+        return new QuotaCounter(day, sent);
+    }
+
+    /**
+     * Waits for the quota day to roll over, waking every minute so a superseded campaign stops early.
+     */
+    private void sleepUntilNextQuotaDay(Campaign campaign) throws InterruptedException {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime reset = now.toLocalDate().plusDays(1).atStartOfDay(zone);
+        long deadline = System.nanoTime() + Duration.between(now, reset).toNanos();
+        do {
+            Thread.sleep(Math.min(Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1000), 60_000));
+        } while (!campaign.superseded && deadline - System.nanoTime() > 0);
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long wait = deadlineNanos - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private static final class QuotaCounter {
+        private final LocalDate day;
+        private final AtomicInteger sent;
+        private volatile int persisted;
+
+        private QuotaCounter(LocalDate day, int sent) {
+            this.day = day;
+            this.sent = new AtomicInteger(sent);
+            this.persisted = sent;
+        }
+    }
+
+    private static final class Campaign {
+        private final String name;
+        private final List<OutboundMail> mails;
+        private volatile boolean superseded;
+
+        private Campaign(String name, List<OutboundMail> mails) {
+            this.name = name;
+            this.mails = mails;
+        }
+    }
+}
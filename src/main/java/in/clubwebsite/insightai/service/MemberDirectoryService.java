@@ -0,0 +1,109 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.MemberDirectoryEntry;
+import in.clubwebsite.insightai.repository.ProfileRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Member directory with keyset pagination on (createdAt, id), so page N costs the same as page 1.
+ * Counts come from a cache refreshed in the background instead of a COUNT(*) per request.
+ */
+@Service
+@Observed
+@RequiredArgsConstructor
+@Slf4j
+public class MemberDirectoryService {
+
+    private final ProfileRepository profileRepository;
+
+    private volatile Counts counts = new Counts(0, 0, null);
+
+    public Map<String, Object> getPage(String cursor, int limit, Boolean active) {
+        Limit fetch = Limit.of(limit + 1);
+        List<MemberDirectoryEntry> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = active == null
+                    ? profileRepository.findDirectoryPage(fetch)
+                    : profileRepository.findDirectoryPageByActive(active, fetch);
+        } else {
+            Cursor after = decodeCursor(cursor);
+            rows = active == null
+                    ? profileRepository.findDirectoryPageAfter(after.createdAt(), after.id(), fetch)
+                    : profileRepository.findDirectoryPageByActiveAfter(active, after.createdAt(), after.id(), fetch);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<MemberDirectoryEntry> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1)) : null;
+
+        Counts snapshot = counts;
+        long filteredTotal = active == null ? snapshot.total()
+                : active ? snapshot.active() : snapshot.total() - snapshot.active();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", items);
+        response.put("nextCursor", nextCursor);
+        response.put("total", snapshot.total());
+        response.put("filteredTotal", filteredTotal);
+        response.put("countsAsOf", snapshot.refreshedAt());
+        return response;
+    }
+
+    public Map<String, Object> getCounts() {
+        Counts snapshot = counts;
+        Map<String, Object> result = new HashMap<>();
+        result.put("total", snapshot.total());
+        result.put("active", snapshot.active());
+        result.put("countsAsOf", snapshot.refreshedAt());
+        return result;
+    }
+
+    public List<MemberDirectoryEntry> getRecentMembers(int limit) {
+        return profileRepository.findDirectoryPageByActive(true, Limit.of(limit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.directory.count-refresh-ms:60000}",
+            initialDelayString = "${app.directory.count-refresh-ms:60000}")
+    public void refreshCounts() {
+        long total = profileRepository.count();
+        long active = profileRepository.countByIsActive(true);
+        counts = new Counts(total, active, LocalDateTime.now());
+        log.debug("Directory counts refreshed: {} total, {} active", total, active);
+    }
+
+    private static String encodeCursor(MemberDirectoryEntry last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    private record Counts(long total, long active, LocalDateTime refreshedAt) {
+    }
+}
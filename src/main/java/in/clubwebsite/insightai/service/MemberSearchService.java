@@ -0,0 +1,260 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.MemberSearchDto;
+import in.clubwebsite.insightai.dto.ProfileSummary;
+import in.clubwebsite.insightai.entity.ProfileEntity;
+import in.clubwebsite.insightai.repository.ProfileRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over member fullname and email for the "find member" box.
+ * Built once at startup from a slim projection and kept up to date by {@link ProfileService},
+ * so searches never touch the database. Terms shorter than a trigram return nothing.
+ */
+@Service
+@Observed
+@RequiredArgsConstructor
+@Slf4j
+public class MemberSearchService {
+
+    private static final int GRAM = 3;
+
+    private final ProfileRepository profileRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index current = new Index();
+    // profiles indexed while a rebuild is loading; replayed onto the new index before it is swapped in
+    private Map<Long, Member> indexedDuringRebuild;
+
+    /**
+     * Loads every profile into a new index off to the side, then swaps it in under the write lock.
+     * Searches keep using the old index meanwhile, and updates that race with the load are replayed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            indexedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        try {
+            for (ProfileSummary p : profileRepository.findAllProjectedBy()) {
+                fresh.add(new Member(p.getId(), p.getFullname(), p.getEmail(), p.getProfileImageUrl(), p.getIsActive()));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                indexedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Member member : indexedDuringRebuild.values()) {
+                fresh.put(member);
+            }
+            current = fresh;
+            indexedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Member search index built with {} profiles", fresh.members.size());
+    }
+
+    /**
+     * Adds or refreshes a profile in the index after it is registered, activated or updated.
+     */
+    public void index(ProfileEntity profile) {
+        Member member = new Member(profile.getId(), profile.getFullname(), profile.getEmail(),
+                profile.getProfileImageUrl(), profile.getIsActive());
+        lock.writeLock().lock();
+        try {
+            current.put(member);
+            if (indexedDuringRebuild != null) {
+                indexedDuringRebuild.put(member.id, member);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked, paginated search. Exact and prefix matches on name or email rank first,
+     * then word-prefix matches, then plain substring matches.
+     */
+    public Map<String, Object> search(String query, int page, int size) {
+        String term = normalize(query);
+        if (term.length() < GRAM) {
+            return page(List.of(), page, size);
+        }
+
+        List<Scored> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Member member : current.candidates(term)) {
+                int score = score(member, term);
+                if (score > 0) {
+                    hits.add(new Scored(member, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingInt(Scored::score).reversed()
+                .thenComparing(s -> s.member.name)
+                .thenComparing(s -> s.member.id));
+        return page(hits, page, size);
+    }
+
+    private static int score(Member member, String term) {
+        if (member.name.equals(term) || member.email.equals(term)) {
+            return 4;
+        }
+        if (member.name.startsWith(term) || member.email.startsWith(term)) {
+            return 3;
+        }
+        if (member.name.contains(" " + term)) {
+            return 2;
+        }
+        if (member.name.contains(term) || member.email.contains(term)) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static Map<String, Object> page(List<Scored> hits, int page, int size) {
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = (int) Math.min((long) from + size, hits.size());
+        List<MemberSearchDto> items = new ArrayList<>(to - from);
+        for (Scored hit : hits.subList(from, to)) {
+            Member m = hit.member;
+            items.add(MemberSearchDto.builder()
+                    .id(m.id)
+                    .fullname(m.fullname)
+                    .email(m.originalEmail)
+                    .profileImageUrl(m.profileImageUrl)
+                    .isActive(m.isActive)
+                    .build());
+        }
+        return Map.of(
+                "items", items,
+                "total", hits.size(),
+                "page", page,
+                "size", size
+        );
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * The documents and trigram postings. Only touched under {@link #lock}, or before it is published.
+     */
+    private static final class Index {
+        private final Map<Long, Member> members = new HashMap<>();
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+
+        private void put(Member member) {
+            remove(member.id);
+            add(member);
+        }
+
+        private Collection<Member> candidates(String term) {
+            // a substring match must contain every trigram of the term; start from the rarest one
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : grams(term)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            List<Member> result = new ArrayList<>();
+            outer:
+            for (Long id : lists.get(0)) {
+                for (int i = 1; i < lists.size(); i++) {
+                    if (!lists.get(i).contains(id)) {
+                        continue outer;
+                    }
+                }
+                result.add(members.get(id));
+            }
+            return result;
+        }
+
+        private void add(Member member) {
+            members.put(member.id, member);
+            for (String gram : member.grams) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(member.id);
+            }
+        }
+
+        private void remove(Long id) {
+            Member old = members.remove(id);
+            if (old == null) {
+                return;
+            }
+            for (String gram : old.grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Member {
+        private final Long id;
+        private final String fullname;
+        private final String originalEmail;
+        private final String profileImageUrl;
+        private final Boolean isActive;
+        private final String name;
+        private final String email;
+        private final Set<String> grams;
+
+        private Member(Long id, String fullname, String email, String profileImageUrl, Boolean isActive) {
+            this.id = id;
+            this.fullname = fullname;
+            this.originalEmail = email;
+            this.profileImageUrl = profileImageUrl;
+            this.isActive = isActive;
+            this.name = normalize(fullname);
+            this.email = normalize(email);
+            this.grams = grams(this.name);
+            this.grams.addAll(grams(this.email));
+        }
+    }
+
+    private record Scored(Member member, int score) {
+    }
+}
@@ -1,23 +1,28 @@
 package in.clubwebsite.insightai.service;
 
+import in.clubwebsite.insightai.dto.OutboundMail;
 import in.clubwebsite.insightai.entity.ProfileEntity;
 import in.clubwebsite.insightai.repository.ProfileRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 @Service
+@Observed
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
     private final ProfileRepository profileRepository;
-    private final EmailService emailService;
+    private final MailDeliveryScheduler mailDeliveryScheduler;
 
     @Value("${insight.ai.frontend.url}")
     private String frontendUrl;
@@ -37,27 +42,40 @@ public class NotificationService {
     );
 
     /**
-     * Scheduled job to send a random AI fact to all users.
-     * Runs every day at 10:00 AM India Standard Time.
+     * Scheduled job to send a random AI fact to all verified users.
+     * Runs every day at 10:00 AM India Standard Time. Mails are handed to the
+     * {@link MailDeliveryScheduler} which spreads them across the bulk window.
      */
     @Scheduled(cron = "0 0 10 * * *", zone = "Asia/Kolkata")
     public void sendAiFactNotification() {
         log.info("Job started: sendAiFactNotification()");
-        List<ProfileEntity> profiles = profileRepository.findAll();
+        List<ProfileEntity> profiles = profileRepository.findAllByIsActiveTrue();
 
         if (profiles.isEmpty()) {
-            log.info("No profiles found. Skipping AI fact notifications.");
+            log.info("No active profiles found. Skipping AI fact notifications.");
             return;
         }
 
-        String randomFact = AI_FACTS.get(new Random().nextInt(AI_FACTS.size()));
+        String fact = getTodaysFact();
 
+        List<OutboundMail> mails = new ArrayList<>(profiles.size());
         for (ProfileEntity profile : profiles) {
             String subject = "💡 Your Daily AI Fact from Insight AI Club!";
-            String body = createAiFactEmailBody(profile.getFullname(), randomFact);
-            emailService.sendEmail(profile.getEmail(), subject, body);
+            String body = createAiFactEmailBody(profile.getFullname(), fact);
+            mails.add(new OutboundMail(profile.getEmail(), subject, body));
         }
-        log.info("Job completed: Sent AI fact to {} users.", profiles.size());
+        // a newer daily fact replaces yesterday's run if it is still waiting on quota
+        if (mailDeliveryScheduler.submitCampaign("daily-ai-fact", mails)) {
+            log.info("Job completed: Queued AI fact for {} users.", profiles.size());
+        }
+    }
+
+    /**
+     * Today's AI fact. Picked from the calendar day so the email and the dashboard agree.
+     */
+    public String getTodaysFact() {
+        int day = LocalDate.now(ZoneId.of("Asia/Kolkata")).getDayOfYear();
+        return AI_FACTS.get(day % AI_FACTS.size());
     }
 
     /**
@@ -67,7 +85,7 @@ public class NotificationService {
      * @param fact The AI fact to be included.
      * @return A string containing the HTML for the email body.
      */
-    private String createAiFactEmailBody(String fullname, String fact) {
+    String createAiFactEmailBody(String fullname, String fact) {
         return "<!DOCTYPE html>"
                 + "<html>"
                 + "<head>"
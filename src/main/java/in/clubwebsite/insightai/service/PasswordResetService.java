@@ -1,45 +1,115 @@
 package in.clubwebsite.insightai.service;
 
+import in.clubwebsite.insightai.entity.ActivityType;
 import in.clubwebsite.insightai.entity.PasswordResetToken;
 import in.clubwebsite.insightai.entity.ProfileEntity;
 import in.clubwebsite.insightai.repository.PasswordResetTokenRepository;
 import in.clubwebsite.insightai.repository.ProfileRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Issues password-reset tokens. Repeated "forgot password" requests for the same profile are
+ * coalesced: a token with enough time left is reused rather than replaced, and at most one
+ * email goes out per profile inside the resend window, however many requests arrive.
+ */
 @Service
+@Observed
 @RequiredArgsConstructor
+@Slf4j
 public class PasswordResetService {
     private final PasswordResetTokenRepository tokenRepo;
     private final ProfileRepository profileRepo;
-    private final EmailService emailService;
+    private final MailDeliveryScheduler mailDeliveryScheduler;
+    private final PasswordEncoder passwordEncoder;
+    private final ActivityLogService activityLogService;
+
+    private static final long TOKEN_TTL_MINUTES = 30;
+
+    /** Profile id -> when its last reset email was claimed; doubles as the in-flight marker. */
+    private final Map<Long, Instant> recentSends = new ConcurrentHashMap<>();
 
     @Value("${insight.ai.frontend.url}")
     private String frontendUrl;
 
+    @Value("${app.password-reset.resend-window-seconds:120}")
+    private long resendWindowSeconds;
+
+    @Value("${app.password-reset.reuse-min-remaining-minutes:10}")
+    private long reuseMinRemainingMinutes;
+
     public void createAndSendResetToken(String email) {
         ProfileEntity user = profileRepo.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("No account found for email: " + email));
+        activityLogService.record(ActivityType.PASSWORD_RESET_REQUESTED, email);
 
-        String token = UUID.randomUUID().toString();
-        PasswordResetToken prt = new PasswordResetToken();
-        prt.setToken(token);
+        Instant claimedAt = claimSend(user.getId());
+        if (claimedAt == null) {
+            log.debug("Suppressed duplicate reset email for profile {}", user.getId());
+            return;
+        }
+
+        try {
+            String token = issueToken(user);
+            String resetLink = frontendUrl + "/reset-password?token=" + token;
+            String subject = "Insight AI Club — Reset Your Password";
+            String body = "Hi " + user.getFullname() + ",\n\n"
+                    + "You (or someone else) requested a password reset. Click here to reset:\n"
+                    + resetLink + "\n\n"
+                    + "If you didn’t request this, just ignore.\n\n"
+                    + "— Insight AI Team";
+            mailDeliveryScheduler.sendTransactional(user.getEmail(), subject, body);
+        } catch (RuntimeException e) {
+            // let the next retry send it
+            recentSends.remove(user.getId(), claimedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the profile's current token if it still has a useful amount of time left, otherwise
+     * rotates the token on the existing row (the token table allows one row per profile).
+     */
+    private String issueToken(ProfileEntity user) {
+        LocalDateTime now = LocalDateTime.now();
+        PasswordResetToken prt = tokenRepo.findByUser(user).orElseGet(PasswordResetToken::new);
+        if (prt.getId() != null && prt.getExpiryDate().isAfter(now.plusMinutes(reuseMinRemainingMinutes))) {
+            return prt.getToken();
+        }
+        prt.setToken(UUID.randomUUID().toString());
         prt.setUser(user);
-        prt.setExpiryDate(LocalDateTime.now().plusMinutes(30));
+        prt.setExpiryDate(now.plusMinutes(TOKEN_TTL_MINUTES));
         tokenRepo.save(prt);
+        return prt.getToken();
+    }
 
-        String resetLink = frontendUrl + "/reset-password?token=" + token;
-        String subject = "Insight AI Club — Reset Your Password";
-        String body = "Hi " + user.getFullname() + ",\n\n"
-                + "You (or someone else) requested a password reset. Click here to reset:\n"
-                + resetLink + "\n\n"
-                + "If you didn’t request this, just ignore.\n\n"
-                + "— Insight AI Team";
-        emailService.sendEmail(user.getEmail(), subject, body);
+    /**
+     * Atomically claims the right to email this profile. Returns null if another request
+     * claimed it within the resend window (or is sending right now).
+     */
+    private Instant claimSend(Long profileId) {
+        Instant now = Instant.now();
+        Instant cutoff = now.minusSeconds(resendWindowSeconds);
+        Instant winner = recentSends.compute(profileId,
+                (id, last) -> last != null && last.isAfter(cutoff) ? last : now);
+        return winner == now ? now : null;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredClaims() {
+        Instant cutoff = Instant.now().minusSeconds(resendWindowSeconds);
+        recentSends.values().removeIf(sentAt -> sentAt.isBefore(cutoff));
     }
 
     public ProfileEntity validatePasswordResetToken(String token) {
@@ -53,6 +123,14 @@ public class PasswordResetService {
         return prt.getUser();
     }
 
+    public void resetPassword(String token, String newPassword) {
+        ProfileEntity user = validatePasswordResetToken(token);
+        user.setPassword(passwordEncoder.encode(newPassword));
+        profileRepo.save(user);
+        clearToken(token);
+        activityLogService.record(ActivityType.PASSWORD_RESET, user.getEmail());
+    }
+
     public void clearToken(String token) {
         tokenRepo.findByToken(token).ifPresent(tokenRepo::delete);
     }
@@ -2,9 +2,13 @@ package in.clubwebsite.insightai.service;
 
 import in.clubwebsite.insightai.dto.AuthDto;
 import in.clubwebsite.insightai.dto.ProfileDto;
+import in.clubwebsite.insightai.entity.ActivityType;
 import in.clubwebsite.insightai.entity.ProfileEntity;
 import in.clubwebsite.insightai.repository.ProfileRepository;
 import in.clubwebsite.insightai.util.JwtUtil;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,17 +20,22 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Observed
 @RequiredArgsConstructor
 public class ProfileService {
 
     private final ProfileRepository profileRepository;
-    private final EmailService emailService;
+    private final MailDeliveryScheduler mailDeliveryScheduler;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final MemberSearchService memberSearchService;
+    private final ObservationRegistry observationRegistry;
+    private final ActivityLogService activityLogService;
 
     @Value("${app.activation.url}")
     private String activationUrl;
@@ -35,12 +44,13 @@ public class ProfileService {
         ProfileEntity newProfile = toEntity(profileDto);
         newProfile.setActivationToken(UUID.randomUUID().toString());
         newProfile = profileRepository.save(newProfile);
+        memberSearchService.index(newProfile);
 
         // Send Activation mail with the new styled template
         String activationLink = activationUrl + "/api/v1.0/activate?token=" + newProfile.getActivationToken();
         String subject = "Please Verify Your Email for Insight AI Club";
         String body = createActivationEmailBody(newProfile.getFullname(), activationLink);
-        emailService.sendEmail(newProfile.getEmail(), subject, body);
+        mailDeliveryScheduler.sendTransactional(newProfile.getEmail(), subject, body);
         return toDto(newProfile);
     }
 
@@ -50,7 +60,7 @@ public class ProfileService {
      * @param activationLink The unique URL to activate the user's account.
      * @return A string containing the HTML for the email body.
      */
-    private String createActivationEmailBody(String fullname, String activationLink) {
+    String createActivationEmailBody(String fullname, String activationLink) {
         return "<!DOCTYPE html>"
                 + "<html>"
                 + "<head>"
@@ -77,13 +87,19 @@ public class ProfileService {
                 .id(profileDto.getId())
                 .fullname(profileDto.getFullname())
                 .email(profileDto.getEmail())
-                .password(passwordEncoder.encode(profileDto.getPassword()))
+                .password(hashPassword(profileDto.getPassword()))
                 .profileImageUrl(profileDto.getProfileImageUrl())
                 .createdAt(profileDto.getCreatedAt())
                 .updatedAt(profileDto.getUpdatedAt())
                 .build();
     }
 
+    // toEntity is called on `this`, so the @Observed proxy doesn't see it; BCrypt gets its own span
+    private String hashPassword(String rawPassword) {
+        return Observation.createNotStarted("profile.password.hash", observationRegistry)
+                .observe(() -> passwordEncoder.encode(rawPassword));
+    }
+
     public ProfileDto toDto(ProfileEntity profileDto){
         return  ProfileDto.builder()
                 .id(profileDto.getId())
@@ -96,23 +112,46 @@ public class ProfileService {
     }
 
     public ProfileEntity saveProfile(ProfileEntity profile) {
-        return profileRepository.save(profile);
+        ProfileEntity saved = profileRepository.save(profile);
+        memberSearchService.index(saved);
+        return saved;
     }
 
     public boolean activateProfile(String activationToken){
         return profileRepository.findByActivationToken(activationToken)
                 .map(profile->{
                     profile.setIsActive(true);
-                    profileRepository.save(profile);
+                    memberSearchService.index(profileRepository.save(profile));
+                    activityLogService.record(ActivityType.ACTIVATION, profile.getEmail());
                     return true;
                 })
                 .orElse(false);
     }
 
     public boolean isAccountActive(String email){
-        return  profileRepository.findByEmail(email)
-                .map(ProfileEntity::getIsActive)
-                .orElse(false);
+        return findActiveFlag(email).orElse(false);
+    }
+
+    /**
+     * The account's active flag, or empty if no account uses this email.
+     */
+    public Optional<Boolean> findActiveFlag(String email){
+        return profileRepository.findByEmail(email)
+                .map(ProfileEntity::getIsActive);
+    }
+
+    /**
+     * Whether this email may log in; records the failed attempt when the account is unknown
+     * or not yet verified.
+     */
+    public boolean isLoginAllowed(String email){
+        Optional<Boolean> active = findActiveFlag(email);
+        if (active.orElse(false)) {
+            return true;
+        }
+        activityLogService.record(ActivityType.LOGIN_FAILED, email,
+                active.isPresent() ? "not verified" : "unknown account");
+        return false;
     }
 
     public ProfileEntity getCurrentProfile(){
@@ -145,11 +184,14 @@ public class ProfileService {
             authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authDto.getEmail(),authDto.getPassword()));
             //Generate JWT token
             String token = jwtUtil.generateToken(authDto.getEmail());
-            return Map.of(
+            Map<String, Object> response = Map.of(
                     "token",token,
                     "user",getPublicProfile(authDto.getEmail())
             );
+            activityLogService.record(ActivityType.LOGIN, authDto.getEmail());
+            return response;
         } catch (Exception e){
+            activityLogService.record(ActivityType.LOGIN_FAILED, authDto.getEmail(), "bad credentials");
             throw  new RuntimeException("Invalid email or password");
         }
     }
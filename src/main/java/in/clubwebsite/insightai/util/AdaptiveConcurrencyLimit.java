@@ -0,0 +1,63 @@
+package in.clubwebsite.insightai.util;
+
+/**
+ * AIMD concurrency limit: grows by roughly one slot per window of fast requests and
+ * shrinks multiplicatively when a request exceeds the target latency.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF = 0.9;
+
+    private final long targetLatencyNanos;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecrease;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.lastDecrease = System.nanoTime();
+    }
+
+    /**
+     * Reserves a slot, or returns false if the group is at its current limit.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases a slot and adjusts the limit from the observed latency.
+     */
+    public synchronized void release(long latencyNanos) {
+        inFlight--;
+        long now = System.nanoTime();
+        if (latencyNanos > targetLatencyNanos) {
+            // back off at most once per target window so one slow burst doesn't collapse the limit
+            if (now - lastDecrease > targetLatencyNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF);
+                lastDecrease = now;
+            }
+        } else if (inFlight * 2 >= limit) {
+            // only grow while the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,71 @@
+package in.clubwebsite.insightai.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Producers claim a slot with a CAS on the tail; {@link #offer} never blocks and
+ * returns false when the buffer is full.
+ */
+public class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param requestedCapacity rounded up to the next power of two
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    public boolean offer(E element) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        slots.lazySet((int) (t & mask), element);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code max} elements into {@code target}. Must only be called from the consumer thread.
+     * Stops early at a slot that has been claimed but not yet published.
+     */
+    public int drainTo(List<E> target, int max) {
+        long h = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (h & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            h++;
+            drained++;
+        }
+        head.lazySet(h);
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,27 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE IF NOT EXISTS tbl_profiles (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    fullname          VARCHAR(255),
+    email             VARCHAR(255),
+    password          VARCHAR(255),
+    profile_image_url VARCHAR(255),
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    is_active         BIT,
+    activation_token  VARCHAR(255),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_profiles_email (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS password_reset_token (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    token       VARCHAR(255) NOT NULL,
+    profile_id  BIGINT       NOT NULL,
+    expiry_date DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_password_reset_token_token (token),
+    UNIQUE KEY uk_password_reset_token_profile (profile_id),
+    CONSTRAINT fk_password_reset_token_profile FOREIGN KEY (profile_id) REFERENCES tbl_profiles (id)
+) ENGINE = InnoDB;
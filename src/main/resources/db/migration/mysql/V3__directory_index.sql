@@ -0,0 +1,2 @@
+-- Unfiltered member directory: keyset pages ordered by (created_at, id)
+CREATE INDEX idx_profiles_created_id ON tbl_profiles (created_at, id);
@@ -0,0 +1,15 @@
+-- Append-only auth activity log, range-partitioned by month on created_at.
+-- Monthly partitions are split off pmax and dropped by ActivityLogRetention.
+CREATE TABLE activity_log (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type  VARCHAR(40)  NOT NULL,
+    email       VARCHAR(255),
+    remote_addr VARCHAR(64),
+    detail      VARCHAR(255),
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id, created_at),
+    KEY idx_activity_log_email_created (email, created_at)
+) ENGINE = InnoDB
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,5 @@
+-- Daily SMTP relay usage, one row per quota day (see MailDeliveryScheduler)
+CREATE TABLE tbl_mail_quota (
+    quota_day  DATE    NOT NULL PRIMARY KEY,
+    sent_count INTEGER NOT NULL
+);
@@ -0,0 +1,21 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE IF NOT EXISTS tbl_profiles (
+    id                BIGSERIAL PRIMARY KEY,
+    fullname          VARCHAR(255),
+    email             VARCHAR(255) UNIQUE,
+    password          VARCHAR(255),
+    profile_image_url VARCHAR(255),
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    is_active         BOOLEAN,
+    activation_token  VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS password_reset_token (
+    id          BIGSERIAL PRIMARY KEY,
+    token       VARCHAR(255) NOT NULL UNIQUE,
+    profile_id  BIGINT       NOT NULL UNIQUE REFERENCES tbl_profiles (id),
+    expiry_date TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,13 @@
+-- findByEmail and findByToken are served by the UNIQUE constraints from V1.
+
+-- findByActivationToken (GET /activate)
+CREATE INDEX IF NOT EXISTS idx_profiles_activation_token
+    ON tbl_profiles (activation_token);
+
+-- Active-member scans, ordered by join date for paging
+CREATE INDEX IF NOT EXISTS idx_profiles_active_created
+    ON tbl_profiles (is_active, created_at, id);
+
+-- Expired reset token cleanup
+CREATE INDEX IF NOT EXISTS idx_password_reset_token_expiry
+    ON password_reset_token (expiry_date);
@@ -0,0 +1,3 @@
+-- Unfiltered member directory: keyset pages ordered by (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_profiles_created_id
+    ON tbl_profiles (created_at, id);
@@ -0,0 +1,14 @@
+-- Append-only auth activity log, range-partitioned by month on created_at.
+-- Monthly partitions are created and dropped by ActivityLogRetention.
+CREATE TABLE IF NOT EXISTS activity_log (
+    id          BIGSERIAL,
+    event_type  VARCHAR(40)  NOT NULL,
+    email       VARCHAR(255),
+    remote_addr VARCHAR(64),
+    detail      VARCHAR(255),
+    created_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_activity_log_email_created
+    ON activity_log (email, created_at);
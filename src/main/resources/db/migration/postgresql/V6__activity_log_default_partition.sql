@@ -0,0 +1,3 @@
+-- Catch-all partition so an insert outside the pre-created monthly range still succeeds.
+-- ActivityLogRetention moves its rows into the monthly partition when that month is created.
+CREATE TABLE IF NOT EXISTS activity_log_default PARTITION OF activity_log DEFAULT;
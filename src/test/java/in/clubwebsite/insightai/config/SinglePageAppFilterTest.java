@@ -0,0 +1,107 @@
+package in.clubwebsite.insightai.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SinglePageAppFilterTest {
+
+    private final SinglePageAppFilter filter = new SinglePageAppFilter("/api/v1.0");
+
+    @Test
+    void acceptsHonoursQValuesAndWildcard() {
+        assertTrue(SinglePageAppFilter.accepts("gzip, deflate, br", "br"));
+        assertTrue(SinglePageAppFilter.accepts("BR;q=0.5", "br"));
+        assertFalse(SinglePageAppFilter.accepts("br;q=0, gzip", "br"));
+        assertTrue(SinglePageAppFilter.accepts("br;q=0, gzip", "gzip"));
+        assertFalse(SinglePageAppFilter.accepts("br; q=0.000", "br"));
+        assertTrue(SinglePageAppFilter.accepts("*", "br"));
+        assertFalse(SinglePageAppFilter.accepts("*;q=0", "br"));
+        assertFalse(SinglePageAppFilter.accepts("br;q=0, *", "br"));
+        assertTrue(SinglePageAppFilter.accepts("*;q=0, br", "br"));
+        assertFalse(SinglePageAppFilter.accepts("br;q=bogus", "br"));
+        assertFalse(SinglePageAppFilter.accepts("", "gzip"));
+        assertFalse(SinglePageAppFilter.accepts("brotli", "br"));
+    }
+
+    @Test
+    void apiRequestsPassThroughWithPrefixAsContextPath() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse res = run(request("POST", "/api/v1.0/login"), chain);
+
+        HttpServletRequest passed = (HttpServletRequest) chain.getRequest();
+        assertNotNull(passed);
+        assertEquals("/api/v1.0", passed.getContextPath());
+        assertEquals("/login", passed.getServletPath());
+        assertEquals(200, res.getStatus());
+    }
+
+    @Test
+    void actuatorRequestsPassThroughUnwrapped() throws Exception {
+        MockHttpServletRequest req = request("GET", "/actuator/health");
+        MockFilterChain chain = new MockFilterChain();
+        run(req, chain);
+
+        assertSame(req, chain.getRequest());
+    }
+
+    @Test
+    void missingAssetIsNotFound() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse res = run(request("GET", "/assets/stale-9z9z.js"), chain);
+
+        assertEquals(404, res.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void htmlNavigationFallsBackToIndex() throws Exception {
+        MockHttpServletResponse res = run(request("GET", "/members/42"), new MockFilterChain());
+
+        assertEquals(200, res.getStatus());
+        assertEquals("text/html", res.getContentType());
+        assertEquals("no-cache", res.getHeader("Cache-Control"));
+        assertTrue(res.getContentAsString().contains("id=\"root\""));
+    }
+
+    @Test
+    void servesPrecompressedAssetOnlyWhenAccepted() throws Exception {
+        MockHttpServletRequest brotli = request("GET", "/assets/app-1a2b.js");
+        brotli.addHeader("Accept-Encoding", "gzip, br");
+        MockHttpServletResponse res = run(brotli, new MockFilterChain());
+        assertEquals("br", res.getHeader("Content-Encoding"));
+        assertEquals("BROTLI", res.getContentAsString());
+        assertEquals("public, max-age=31536000, immutable", res.getHeader("Cache-Control"));
+
+        MockHttpServletRequest refused = request("GET", "/assets/app-1a2b.js");
+        refused.addHeader("Accept-Encoding", "br;q=0, gzip");
+        res = run(refused, new MockFilterChain());
+        assertEquals("gzip", res.getHeader("Content-Encoding"));
+
+        res = run(request("GET", "/assets/app-1a2b.js"), new MockFilterChain());
+        assertNull(res.getHeader("Content-Encoding"));
+        assertTrue(res.getContentAsString().contains("console.log"));
+    }
+
+    @Test
+    void rejectsWritesAndTraversalOutsideTheApi() throws Exception {
+        assertEquals(405, run(request("POST", "/members/42"), new MockFilterChain()).getStatus());
+        assertEquals(404, run(request("GET", "/assets/../application.properties"), new MockFilterChain()).getStatus());
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest req, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, chain);
+        return res;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest req = new MockHttpServletRequest(method, uri);
+        req.setContextPath("");
+        return req;
+    }
+}
@@ -0,0 +1,63 @@
+package in.clubwebsite.insightai.controller;
+
+import in.clubwebsite.insightai.service.ImageStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ImageControllerTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String ETAG = "\"" + HASH + "-256\"";
+
+    @TempDir
+    Path dir;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path thumbnail = Files.write(dir.resolve("256.jpg"), new byte[]{1, 2, 3});
+        ImageStorageService storage = mock(ImageStorageService.class);
+        when(storage.resolve(HASH, 256)).thenReturn(Optional.of(thumbnail));
+        when(storage.resolve(HASH, 64)).thenReturn(Optional.empty());
+        mvc = MockMvcBuilders.standaloneSetup(new ImageController(storage)).build();
+    }
+
+    @Test
+    void servesThumbnailWithStrongEtagAndImmutableCaching() throws Exception {
+        mvc.perform(get("/images/{hash}/256", HASH))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Cache-Control", "public, max-age=31536000, immutable"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void ifNoneMatchHandlesExactListWeakAndWildcard() throws Exception {
+        for (String header : new String[]{ETAG, "\"other\", " + ETAG, "W/" + ETAG, "*"}) {
+            mvc.perform(get("/images/{hash}/256", HASH).header("If-None-Match", header))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", ETAG))
+                    .andExpect(content().bytes(new byte[0]));
+        }
+        mvc.perform(get("/images/{hash}/256", HASH).header("If-None-Match", "\"" + HASH + "-128\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownImageIsNotFound() throws Exception {
+        mvc.perform(get("/images/{hash}/64", HASH)).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,45 @@
+package in.clubwebsite.insightai.controller;
+
+import in.clubwebsite.insightai.repository.ProfileRepository;
+import in.clubwebsite.insightai.service.MemberDirectoryService;
+import in.clubwebsite.insightai.service.MemberSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MemberControllerTest {
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        ProfileRepository profileRepository = mock(ProfileRepository.class);
+        when(profileRepository.findDirectoryPage(any())).thenReturn(List.of());
+        MemberDirectoryService directory = new MemberDirectoryService(profileRepository);
+        mvc = MockMvcBuilders.standaloneSetup(new MemberController(mock(MemberSearchService.class), directory)).build();
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() throws Exception {
+        mvc.perform(get("/members").param("cursor", "definitely|not|a|cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    @Test
+    void firstPageWithoutCursorIsOk() throws Exception {
+        mvc.perform(get("/members"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package in.clubwebsite.insightai.controller;
+
+import in.clubwebsite.insightai.dto.ProfileDto;
+import in.clubwebsite.insightai.entity.ProfileEntity;
+import in.clubwebsite.insightai.service.IdempotencyService;
+import in.clubwebsite.insightai.service.ImageStorageService;
+import in.clubwebsite.insightai.service.ProfileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProfileControllerTest {
+
+    private ProfileService profileService;
+    private ImageStorageService imageStorageService;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        profileService = mock(ProfileService.class);
+        imageStorageService = mock(ImageStorageService.class);
+        when(imageStorageService.getMaxUploadBytes()).thenReturn(1024L);
+        mvc = MockMvcBuilders.standaloneSetup(new ProfileController(profileService, imageStorageService,
+                mock(IdempotencyService.class))).build();
+    }
+
+    @Test
+    void imageUploadStreamsTheRawBodyIntoTheStore() throws Exception {
+        byte[] body = {(byte) 0x89, 'P', 'N', 'G'};
+        when(imageStorageService.store(any())).thenAnswer(inv -> {
+            assertArrayEquals(body, ((InputStream) inv.getArgument(0)).readAllBytes());
+            return "ab".repeat(32);
+        });
+        ProfileEntity current = new ProfileEntity();
+        when(profileService.getCurrentProfile()).thenReturn(current);
+        when(profileService.saveProfile(current)).thenReturn(current);
+        when(profileService.toDto(current)).thenAnswer(inv -> ProfileDto.builder()
+                .profileImageUrl(current.getProfileImageUrl()).build());
+
+        mvc.perform(post("/profile/image").contentType("image/png").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.profileImageUrl").value("/images/" + "ab".repeat(32) + "/256"));
+    }
+
+    @Test
+    void oversizedUploadIsRejectedBeforeReadingTheBody() throws Exception {
+        mvc.perform(post("/profile/image").contentType("image/jpeg").content(new byte[2048]))
+                .andExpect(status().isPayloadTooLarge());
+        verify(imageStorageService, never()).store(any());
+    }
+
+    @Test
+    void unreadableImageIsABadRequest() throws Exception {
+        when(imageStorageService.store(any())).thenThrow(new IllegalArgumentException("Unsupported image format"));
+        mvc.perform(post("/profile/image").contentType("image/png").content(new byte[]{1, 2, 3}))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported image format"));
+    }
+
+    @Test
+    void nonImageContentTypeIsUnsupported() throws Exception {
+        mvc.perform(post("/profile/image").contentType("multipart/form-data; boundary=x").content("--x--"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
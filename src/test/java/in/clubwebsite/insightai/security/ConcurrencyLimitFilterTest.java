@@ -0,0 +1,85 @@
+package in.clubwebsite.insightai.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "initialLimit", 1);
+        ReflectionTestUtils.setField(filter, "minLimit", 1);
+        ReflectionTestUtils.setField(filter, "maxLimit", 1);
+        ReflectionTestUtils.setField(filter, "targetLatencyMs", 500L);
+        filter.init();
+    }
+
+    @Test
+    void shedsWith503OnceTheGroupIsAtItsLimit() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> first = pool.submit(() -> run("/login", slow));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse shed = run("/login", (req, res) -> fail("should have been shed"));
+            assertEquals(503, shed.getStatus());
+            assertEquals("1", shed.getHeader("Retry-After"));
+            assertEquals(1.0, meterRegistry.get("insightai.concurrency.rejected").tag("group", "login").counter().count());
+
+            // other groups and health checks are unaffected
+            assertEquals(200, run("/profile", (req, res) -> { }).getStatus());
+            assertEquals(200, run("/health", (req, res) -> { }).getStatus());
+
+            release.countDown();
+            assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(200, run("/login", (req, res) -> { }).getStatus());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasesThePermitWhenTheChainThrows() throws Exception {
+        assertThrows(IllegalStateException.class, () -> run("/dashboard", (req, res) -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(200, run("/dashboard", (req, res) -> { }).getStatus());
+    }
+
+    private MockHttpServletResponse run(String path, FilterChain chain) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/v1.0" + path);
+        req.setContextPath("/api/v1.0");
+        req.setServletPath(path);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, chain);
+        return res;
+    }
+}
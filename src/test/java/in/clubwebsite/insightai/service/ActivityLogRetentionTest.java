@@ -0,0 +1,82 @@
+package in.clubwebsite.insightai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ActivityLogRetentionTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private JdbcTemplate jdbcTemplate;
+    private ActivityLogRetention retention;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        retention = new ActivityLogRetention(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(retention, "enabled", true);
+        ReflectionTestUtils.setField(retention, "retentionMonths", 6);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+    }
+
+    private static String partition(YearMonth month) {
+        return "activity_log_p" + month.format(SUFFIX);
+    }
+
+    @Test
+    void startupRunLogsFailuresInsteadOfAbortingStartup() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenThrow(new DataAccessResourceFailureException("permission denied"));
+
+        assertDoesNotThrow(retention::maintainPartitionsOnStartup);
+    }
+
+    @Test
+    void defaultPartitionIsNeitherParsedNorDropped() {
+        YearMonth now = YearMonth.now();
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "activity_log_default", partition(now), partition(now.plusMonths(1)), partition(now.minusMonths(7))));
+
+        retention.maintainPartitions();
+
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS " + partition(now.minusMonths(7)));
+        verify(jdbcTemplate, never()).execute(contains("DROP TABLE IF EXISTS activity_log_default"));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM activity_log_default"), any(Object[].class));
+    }
+
+    @Test
+    void newPartitionTakesOverRowsTheDefaultPartitionCaught() {
+        YearMonth next = YearMonth.now().plusMonths(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("activity_log_default", partition(YearMonth.now())));
+
+        retention.maintainPartitions();
+
+        var inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE " + partition(next) + " (LIKE activity_log INCLUDING DEFAULTS)");
+        inOrder.verify(jdbcTemplate).execute(startsWith("INSERT INTO " + partition(next) + " SELECT * FROM activity_log_default"));
+        inOrder.verify(jdbcTemplate).execute(startsWith("DELETE FROM activity_log_default"));
+        inOrder.verify(jdbcTemplate).execute(startsWith("ALTER TABLE activity_log ATTACH PARTITION " + partition(next)));
+    }
+}
@@ -0,0 +1,93 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.service.DashboardComposer.Widget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardComposerTest {
+
+    private final DashboardComposer composer = new DashboardComposer();
+
+    @AfterEach
+    void tearDown() {
+        composer.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void slowWidgetFallsBackAtItsDeadlineWhileOthersRender() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Widget slow = new Widget("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, Duration.ofMillis(100), "slow-fallback");
+        Widget fast = new Widget("fast", () -> "fresh", Duration.ofSeconds(2), "fast-fallback");
+        Widget failing = new Widget("failing", () -> {
+            throw new IllegalStateException("db down");
+        }, Duration.ofSeconds(2), List.of());
+
+        long start = System.nanoTime();
+        Map<String, Object> result = composer.compose(List.of(slow, fast, failing));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("slow-fallback", result.get("slow"));
+        assertEquals("fresh", result.get("fast"));
+        assertEquals(List.of(), result.get("failing"));
+        assertEquals(List.of("slow", "failing"), result.get("degraded"));
+        assertEquals(List.of("slow", "fast", "failing", "degraded"), List.copyOf(result.keySet()));
+        assertTrue(elapsedMs < 2_000, "took " + elapsedMs + " ms");
+        // the timed-out widget is cancelled rather than left running
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void deadlinesRunConcurrentlyNotBackToBack() {
+        List<Widget> widgets = List.of(
+                sleeping("a", 300), sleeping("b", 300), sleeping("c", 300));
+
+        long start = System.nanoTime();
+        Map<String, Object> result = composer.compose(widgets);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(List.of("a", "b", "c"), result.get("degraded"));
+        assertTrue(elapsedMs < 800, "took " + elapsedMs + " ms");
+    }
+
+    @Test
+    void widgetsSeeTheCallersSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("member@x.org", null, List.of()));
+        Widget whoAmI = new Widget("me", () -> SecurityContextHolder.getContext().getAuthentication().getName(),
+                Duration.ofSeconds(2), "anonymous");
+
+        Map<String, Object> result = composer.compose(List.of(whoAmI));
+
+        assertEquals("member@x.org", result.get("me"));
+        assertEquals(List.of(), result.get("degraded"));
+    }
+
+    private static Widget sleeping(String name, long deadlineMs) {
+        return new Widget(name, () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return name;
+        }, Duration.ofMillis(deadlineMs), null);
+    }
+}
@@ -0,0 +1,130 @@
+package in.clubwebsite.insightai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService();
+        ReflectionTestUtils.setField(service, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(service, "waitMs", 5_000L);
+    }
+
+    @Test
+    void duplicateWaitsForSlowOriginalAndGetsItsResult() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> original = pool.submit(() -> service.execute("k", "fp", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "created";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> duplicate = pool.submit(() -> service.execute("k", "fp", () -> {
+                runs.incrementAndGet();
+                return "second";
+            }));
+
+            Thread.sleep(100);
+            assertFalse(duplicate.isDone());
+            release.countDown();
+
+            assertEquals("created", original.get(5, TimeUnit.SECONDS));
+            assertEquals("created", duplicate.get(5, TimeUnit.SECONDS));
+            assertEquals(1, runs.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void duplicateGivesUpWhenOriginalOutlivesTheWait() throws Exception {
+        ReflectionTestUtils.setField(service, "waitMs", 50L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> original = pool.submit(() -> service.execute("k", "fp", () -> {
+                started.countDown();
+                await(release);
+                return "created";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(IdempotencyKeyInProgressException.class,
+                    () -> service.execute("k", "fp", () -> "second"));
+
+            release.countDown();
+            assertEquals("created", original.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void errorInOriginalReleasesWaitersAndAllowsRetry() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> original = pool.submit(() -> service.execute("k", "fp", () -> {
+                started.countDown();
+                await(release);
+                throw new StackOverflowError("boom");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> duplicate = pool.submit(() -> service.execute("k", "fp", () -> "second"));
+            Thread.sleep(100);
+            release.countDown();
+
+            Exception originalFailure = assertThrows(Exception.class, () -> original.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, originalFailure.getCause());
+            Exception duplicateFailure = assertThrows(Exception.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, duplicateFailure.getCause());
+
+            assertEquals("retried", service.execute("k", "fp", () -> "retried"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void reusedKeyWithDifferentPayloadIsRejected() {
+        assertEquals("a", service.execute("k", service.fingerprint("x", "secret"), () -> "a"));
+        String other = service.fingerprint("x", "other");
+        assertThrows(IdempotencyKeyConflictException.class, () -> service.execute("k", other, () -> "b"));
+    }
+
+    @Test
+    void fingerprintSeparatesFieldsAndIsKeyedPerInstance() {
+        assertEquals(service.fingerprint("ab", "c"), service.fingerprint("ab", "c"));
+        assertNotEquals(service.fingerprint("ab", "c"), service.fingerprint("a", "bc"));
+        assertNotEquals(service.fingerprint("ab", "c"), new IdempotencyService().fingerprint("ab", "c"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
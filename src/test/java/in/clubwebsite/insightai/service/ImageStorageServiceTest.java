@@ -0,0 +1,146 @@
+package in.clubwebsite.insightai.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private ImageStorageService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ImageStorageService();
+        ReflectionTestUtils.setField(service, "root", root.toString());
+        ReflectionTestUtils.setField(service, "maxPixels", 1_000_000L);
+        ReflectionTestUtils.setField(service, "maxUploadBytes", 200_000L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void storesByContentHashAndRendersEveryThumbnail() throws Exception {
+        byte[] png = png(300, 200);
+        String hash = service.store(new ByteArrayInputStream(png));
+
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png)), hash);
+        assertEquals(hash, service.store(new ByteArrayInputStream(png)));
+
+        for (int size : ImageStorageService.THUMBNAIL_SIZES) {
+            Path thumbnail = awaitThumbnail(hash, size);
+            BufferedImage image = ImageIO.read(thumbnail.toFile());
+            assertEquals(size, image.getWidth());
+            assertEquals(size, image.getHeight());
+        }
+        assertNoTempFiles();
+    }
+
+    @Test
+    void servesTheOriginalAndRerendersWhenAThumbnailIsMissing() throws Exception {
+        String hash = service.store(new ByteArrayInputStream(png(120, 120)));
+        Path thumbnail = awaitThumbnail(hash, 256);
+
+        Files.delete(thumbnail);
+        Optional<Path> fallback = service.resolve(hash, 256);
+        assertTrue(fallback.isPresent());
+        assertEquals("original.png", fallback.get().getFileName().toString());
+
+        assertEquals(thumbnail, awaitThumbnail(hash, 256));
+    }
+
+    @Test
+    void rejectsNonImagesAndUnsupportedRequests() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.store(new ByteArrayInputStream("not an image".getBytes())));
+        assertNoTempFiles();
+
+        assertEquals(Optional.empty(), service.resolve("../../etc/passwd", 256));
+        assertEquals(Optional.empty(), service.resolve("a".repeat(64), 256));
+        String hash = service.store(new ByteArrayInputStream(png(10, 10)));
+        assertEquals(Optional.empty(), service.resolve(hash, 100));
+    }
+
+    @Test
+    void rejectsPixelBombFromTheHeaderAlone() throws Exception {
+        // a valid 1x1 PNG whose header claims 30000x30000; decoding it would need gigabytes
+        byte[] bomb = withDimensions(png(1, 1), 30_000, 30_000);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.store(new ByteArrayInputStream(bomb)));
+        assertEquals("Image is too large: 30000x30000", e.getMessage());
+        assertNoTempFiles();
+    }
+
+    @Test
+    void cutsOffUploadsOverTheByteLimit() throws Exception {
+        byte[] big = new byte[300_000];
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.store(new ByteArrayInputStream(big)));
+        assertEquals("Image is larger than 200000 bytes", e.getMessage());
+        assertNoTempFiles();
+    }
+
+    private Path awaitThumbnail(String hash, int size) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            Optional<Path> path = service.resolve(hash, size);
+            if (path.isPresent() && path.get().getFileName().toString().equals(size + ".jpg")) {
+                return path.get();
+            }
+            assertTrue(System.nanoTime() < deadline, "thumbnail " + size + " was not rendered");
+            Thread.sleep(20);
+        }
+    }
+
+    private void assertNoTempFiles() throws IOException {
+        try (var files = Files.walk(root)) {
+            assertTrue(files.noneMatch(p -> p.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0xff0000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Rewrites the IHDR width and height (bytes 16-23) and fixes up the chunk CRC.
+     */
+    private static byte[] withDimensions(byte[] png, int width, int height) {
+        ByteBuffer buffer = ByteBuffer.wrap(png.clone());
+        buffer.putInt(16, width);
+        buffer.putInt(20, height);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 12, 17);
+        buffer.putInt(29, (int) crc.getValue());
+        return buffer.array();
+    }
+}
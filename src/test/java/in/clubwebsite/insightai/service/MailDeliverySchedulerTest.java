@@ -0,0 +1,178 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.OutboundMail;
+import in.clubwebsite.insightai.entity.MailQuotaUsage;
+import in.clubwebsite.insightai.repository.MailQuotaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MailDeliverySchedulerTest {
+
+    private EmailService emailService;
+    private MailQuotaRepository quotaRepository;
+    private MailDeliveryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        emailService = mock(EmailService.class);
+        quotaRepository = mock(MailQuotaRepository.class);
+        when(quotaRepository.findById(any())).thenReturn(Optional.empty());
+        scheduler = newScheduler(1000, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private MailDeliveryScheduler newScheduler(double ratePerSecond, int dailyQuota) {
+        MailDeliveryScheduler s = new MailDeliveryScheduler(emailService, quotaRepository);
+        ReflectionTestUtils.setField(s, "ratePerSecond", ratePerSecond);
+        ReflectionTestUtils.setField(s, "burst", 1);
+        ReflectionTestUtils.setField(s, "dailyQuota", dailyQuota);
+        ReflectionTestUtils.setField(s, "transactionalReserve", 2);
+        ReflectionTestUtils.setField(s, "bulkWindowMinutes", 0L);
+        ReflectionTestUtils.setField(s, "quotaZone", "UTC");
+        ReflectionTestUtils.setField(s, "maxQueuedCampaigns", 1);
+        s.init();
+        return s;
+    }
+
+    @Test
+    void transactionalMailStopsAtTheDailyQuota() {
+        for (int i = 0; i < 10; i++) {
+            scheduler.sendTransactional("a@x", "s", "b");
+        }
+        RuntimeException e = assertThrows(RuntimeException.class, () -> scheduler.sendTransactional("a@x", "s", "b"));
+        assertEquals("Daily mail quota exhausted", e.getMessage());
+        assertEquals(0, scheduler.getRemainingDailyQuota());
+        verify(emailService, times(10)).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void failedSendIsRefunded() {
+        doThrow(new RuntimeException("relay down")).when(emailService).sendEmail(anyString(), anyString(), anyString());
+        assertThrows(RuntimeException.class, () -> scheduler.sendTransactional("a@x", "s", "b"));
+        assertEquals(10, scheduler.getRemainingDailyQuota());
+    }
+
+    @Test
+    void quotaIsLoadedOnStartupAndFlushedOnlyWhenChanged() {
+        scheduler.shutdown();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(quotaRepository.findById(today)).thenReturn(Optional.of(new MailQuotaUsage(today, 7)));
+        scheduler = newScheduler(1000, 10);
+        assertEquals(3, scheduler.getRemainingDailyQuota());
+
+        scheduler.flushQuota();
+        verify(quotaRepository, never()).save(any());
+
+        scheduler.sendTransactional("a@x", "s", "b");
+        scheduler.flushQuota();
+        scheduler.flushQuota();
+        ArgumentCaptor<MailQuotaUsage> saved = ArgumentCaptor.forClass(MailQuotaUsage.class);
+        verify(quotaRepository, times(1)).save(saved.capture());
+        assertEquals(today, saved.getValue().getQuotaDay());
+        assertEquals(8, saved.getValue().getSentCount());
+    }
+
+    @Test
+    void bulkMailLeavesTheTransactionalReserve() throws Exception {
+        scheduler.submitCampaign("digest", mails(10));
+        verify(emailService, timeout(5000).times(8)).sendEmail(anyString(), anyString(), anyString());
+        assertEquals(2, scheduler.getRemainingDailyQuota());
+        scheduler.sendTransactional("a@x", "s", "b");
+        scheduler.sendTransactional("a@x", "s", "b");
+        assertEquals(0, scheduler.getRemainingDailyQuota());
+    }
+
+    @Test
+    void rejectedSubmitDoesNotStopTheRunningCampaign() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emailService).sendEmail(eq("a0@x"), anyString(), anyString());
+
+        assertTrue(scheduler.submitCampaign("a", mails("a", 3)));
+        waitUntil(() -> "a".equals(scheduler.getRunningCampaign()));
+        assertTrue(scheduler.submitCampaign("b", mails("b", 1)));
+        // queue is full (max 1) and "a" is only running, not queued: rejected
+        assertFalse(scheduler.submitCampaign("a", mails("a", 1)));
+        release.countDown();
+
+        verify(emailService, timeout(5000)).sendEmail(eq("a2@x"), anyString(), anyString());
+        verify(emailService, timeout(5000)).sendEmail(eq("b0@x"), anyString(), anyString());
+    }
+
+    @Test
+    void supersededCampaignRefundsItsReservation() throws Exception {
+        scheduler.shutdown();
+        // one token per second: after the transactional send the campaign reserves quota and then waits for a token
+        scheduler = newScheduler(1, 10);
+        scheduler.sendTransactional("t@x", "s", "b");
+
+        assertTrue(scheduler.submitCampaign("a", mails("old", 1)));
+        waitUntil(() -> scheduler.getRemainingDailyQuota() == 8);
+        assertTrue(scheduler.submitCampaign("a", mails("new", 1)));
+
+        verify(emailService, timeout(5000)).sendEmail(eq("new0@x"), anyString(), anyString());
+        waitUntil(() -> scheduler.getRunningCampaign() == null);
+        verify(emailService, never()).sendEmail(eq("old0@x"), anyString(), anyString());
+        assertEquals(8, scheduler.getRemainingDailyQuota());
+    }
+
+    @Test
+    void sameNameReplacesQueuedCampaign() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emailService).sendEmail(eq("a0@x"), anyString(), anyString());
+
+        scheduler.submitCampaign("a", mails("a", 1));
+        waitUntil(() -> "a".equals(scheduler.getRunningCampaign()));
+        assertTrue(scheduler.submitCampaign("b", mails("stale", 1)));
+        assertTrue(scheduler.submitCampaign("b", mails("fresh", 1)));
+        assertEquals(List.of("b"), scheduler.getQueuedCampaigns());
+        release.countDown();
+
+        verify(emailService, timeout(5000)).sendEmail(eq("fresh0@x"), anyString(), anyString());
+        verify(emailService, never()).sendEmail(eq("stale0@x"), anyString(), anyString());
+    }
+
+    private static List<OutboundMail> mails(int count) {
+        return mails("m", count);
+    }
+
+    private static List<OutboundMail> mails(String prefix, int count) {
+        return java.util.stream.IntStream.range(0, count)
+                .mapToObj(i -> new OutboundMail(prefix + i + "@x", "s", "b"))
+                .toList();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.MemberDirectoryEntry;
+import in.clubwebsite.insightai.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class MemberDirectoryServiceTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_456_000);
+
+    private ProfileRepository profileRepository;
+    private MemberDirectoryService service;
+
+    @BeforeEach
+    void setUp() {
+        profileRepository = mock(ProfileRepository.class);
+        service = new MemberDirectoryService(profileRepository);
+    }
+
+    @Test
+    void nextCursorResumesAfterTheLastRowOfThePage() {
+        when(profileRepository.findDirectoryPage(Limit.of(3)))
+                .thenReturn(List.of(entry(30, T.plusMinutes(2)), entry(20, T), entry(10, T.minusDays(1))));
+
+        Map<String, Object> first = service.getPage(null, 2, null);
+        assertEquals(2, ((List<?>) first.get("items")).size());
+        String cursor = (String) first.get("nextCursor");
+        assertNotNull(cursor);
+
+        when(profileRepository.findDirectoryPageAfter(T, 20L, Limit.of(3))).thenReturn(List.of(entry(10, T.minusDays(1))));
+        Map<String, Object> second = service.getPage(cursor, 2, null);
+        assertEquals(1, ((List<?>) second.get("items")).size());
+        assertNull(second.get("nextCursor"));
+        verify(profileRepository).findDirectoryPageAfter(T, 20L, Limit.of(3));
+    }
+
+    @Test
+    void cursorIsAppliedToTheActiveFilterToo() {
+        String cursor = encode(T + "|20");
+        when(profileRepository.findDirectoryPageByActiveAfter(true, T, 20L, Limit.of(6))).thenReturn(List.of());
+
+        service.getPage(cursor, 5, true);
+
+        verify(profileRepository).findDirectoryPageByActiveAfter(true, T, 20L, Limit.of(6));
+    }
+
+    @Test
+    void malformedCursorsAreRejectedAsInvalidArguments() {
+        String[] bad = {
+                "%%%not-base64%%%",
+                encode("no separator"),
+                encode("|20"),
+                encode("yesterday|20"),
+                encode(T + "|"),
+                encode(T + "|twenty"),
+                encode(T + "|99999999999999999999")
+        };
+        for (String cursor : bad) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> service.getPage(cursor, 20, null), cursor);
+            assertEquals("Invalid cursor", e.getMessage());
+        }
+        verify(profileRepository, never()).findDirectoryPageAfter(any(), anyLong(), any());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MemberDirectoryEntry entry(long id, LocalDateTime createdAt) {
+        return new MemberDirectoryEntry() {
+            public Long getId() { return id; }
+            public String getFullname() { return "Member " + id; }
+            public String getProfileImageUrl() { return null; }
+            public Boolean getIsActive() { return true; }
+            public LocalDateTime getCreatedAt() { return createdAt; }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package in.clubwebsite.insightai.service;
+
+import in.clubwebsite.insightai.dto.MemberSearchDto;
+import in.clubwebsite.insightai.dto.ProfileSummary;
+import in.clubwebsite.insightai.entity.ProfileEntity;
+import in.clubwebsite.insightai.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberSearchServiceTest {
+
+    private ProfileRepository profileRepository;
+    private MemberSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        profileRepository = mock(ProfileRepository.class);
+        service = new MemberSearchService(profileRepository);
+    }
+
+    @Test
+    void ranksExactThenPrefixThenWordPrefixThenSubstring() {
+        when(profileRepository.findAllProjectedBy()).thenReturn(List.of(
+                summary(1, "Mariana Lopez", "lopez@x.org"),
+                summary(2, "Annamaria Ruiz", "ana@x.org"),
+                summary(3, "Maria", "m@x.org"),
+                summary(4, "Jose Mariano", "jose@x.org"),
+                summary(5, "Bob Stone", "bob@x.org")));
+        service.rebuild();
+
+        assertEquals(List.of(3L, 1L, 4L, 2L), ids(service.search("maria", 0, 10)));
+        // case and surrounding whitespace don't matter
+        assertEquals(ids(service.search("maria", 0, 10)), ids(service.search("  MARIA ", 0, 10)));
+    }
+
+    @Test
+    void equalScoresAreOrderedByNameThenId() {
+        when(profileRepository.findAllProjectedBy()).thenReturn(List.of(
+                summary(9, "Sam Smith", "a@x.org"),
+                summary(3, "Sam Smith", "b@x.org"),
+                summary(5, "Sam Adams", "c@x.org")));
+        service.rebuild();
+
+        assertEquals(List.of(5L, 3L, 9L), ids(service.search("sam", 0, 10)));
+    }
+
+    @Test
+    void shortOrBlankQueriesReturnNothing() {
+        when(profileRepository.findAllProjectedBy()).thenReturn(List.of(summary(1, "Al Bo", "al@x.org")));
+        service.rebuild();
+
+        for (String query : new String[]{null, "", "  ", "a", "al"}) {
+            Map<String, Object> result = service.search(query, 0, 10);
+            assertEquals(0, result.get("total"), "query: " + query);
+            assertEquals(List.of(), result.get("items"));
+        }
+    }
+
+    @Test
+    void pagesWithoutOverflowing() {
+        when(profileRepository.findAllProjectedBy()).thenReturn(List.of(
+                summary(1, "Kim One", "1@x.org"),
+                summary(2, "Kim Two", "2@x.org"),
+                summary(3, "Kim Three", "3@x.org")));
+        service.rebuild();
+
+        assertEquals(2, ids(service.search("kim", 0, 2)).size());
+        assertEquals(1, ids(service.search("kim", 1, 2)).size());
+        Map<String, Object> far = service.search("kim", Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals(List.of(), far.get("items"));
+        assertEquals(3, far.get("total"));
+    }
+
+    @Test
+    void indexReplacesThePreviousVersionOfAProfile() {
+        when(profileRepository.findAllProjectedBy()).thenReturn(List.of(summary(1, "Old Name", "x@x.org")));
+        service.rebuild();
+
+        service.index(entity(1, "New Name", "x@x.org"));
+
+        assertEquals(List.of(), ids(service.search("old", 0, 10)));
+        assertEquals(List.of(1L), ids(service.search("new", 0, 10)));
+    }
+
+    @Test
+    void searchesTheOldIndexDuringRebuildAndKeepsUpdatesMadeMeanwhile() throws Exception {
+        when(profileRepository.findAllProjectedBy()).thenReturn(List.of(summary(1, "Alice Old", "alice@x.org")));
+        service.rebuild();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch finishLoad = new CountDownLatch(1);
+        when(profileRepository.findAllProjectedBy()).thenAnswer(inv -> {
+            loading.countDown();
+            finishLoad.await(5, TimeUnit.SECONDS);
+            // a snapshot taken before the updates below
+            return List.of(summary(1, "Alice Old", "alice@x.org"), summary(2, "Carol", "carol@x.org"));
+        });
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(service::rebuild);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // the old index keeps serving while the new one loads, and sees updates at once
+        assertEquals(List.of(1L), ids(service.search("alice", 0, 10)));
+        assertEquals(List.of(), ids(service.search("carol", 0, 10)));
+        service.index(entity(1, "Alice Renamed", "alice@x.org"));
+        service.index(entity(3, "Dave", "dave@x.org"));
+        assertEquals(List.of(3L), ids(service.search("dave", 0, 10)));
+
+        finishLoad.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(2L), ids(service.search("carol", 0, 10)));
+        assertEquals(List.of(3L), ids(service.search("dave", 0, 10)));
+        assertEquals(List.of(1L), ids(service.search("renamed", 0, 10)));
+        assertEquals(List.of(), ids(service.search("old", 0, 10)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> ids(Map<String, Object> result) {
+        return ((List<MemberSearchDto>) result.get("items")).stream().map(MemberSearchDto::getId).toList();
+    }
+
+    private static ProfileEntity entity(long id, String fullname, String email) {
+        return ProfileEntity.builder().id(id).fullname(fullname).email(email).isActive(true).build();
+    }
+
+    private static ProfileSummary summary(long id, String fullname, String email) {
+        return new ProfileSummary() {
+            public Long getId() { return id; }
+            public String getFullname() { return fullname; }
+            public String getEmail() { return email; }
+            public String getProfileImageUrl() { return null; }
+            public Boolean getIsActive() { return true; }
+            public LocalDateTime getCreatedAt() { return null; }
+        };
+    }
+}
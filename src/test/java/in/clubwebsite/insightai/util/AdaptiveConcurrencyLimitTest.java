@@ -0,0 +1,96 @@
+package in.clubwebsite.insightai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void refusesAtLimitAndReleaseFreesTheSlot() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, TARGET);
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+
+        limit.release(FAST);
+        assertEquals(1, limit.getInFlight());
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void growsAdditivelyWhileTheLimitIsInUse() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, TARGET);
+        fill(limit, 4);
+        // each fast release at high utilisation adds 1/limit: 4 releases reach ~4.92, the fifth crosses 5
+        for (int i = 0; i < 4; i++) {
+            limit.release(FAST);
+            assertTrue(limit.tryAcquire());
+        }
+        assertEquals(4, limit.getLimit());
+        limit.release(FAST);
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, TARGET);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(FAST);
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void growthStopsAtTheCeiling() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 4, TARGET);
+        fill(limit, 4);
+        for (int i = 0; i < 50; i++) {
+            limit.release(FAST);
+            assertTrue(limit.tryAcquire());
+        }
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void backsOffMultiplicativelyAtMostOncePerWindow() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, TARGET);
+        Thread.sleep(60);
+        fill(limit, 3);
+
+        limit.release(SLOW);
+        assertEquals(9, limit.getLimit());
+        // a second slow response within the same window doesn't shrink it again
+        limit.release(SLOW);
+        assertEquals(9, limit.getLimit());
+        assertEquals(1, limit.getInFlight());
+
+        Thread.sleep(60);
+        limit.release(SLOW);
+        assertEquals(8, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void backOffStopsAtTheFloor() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 3, 10, TARGET);
+        Thread.sleep(60);
+        assertTrue(limit.tryAcquire());
+        limit.release(SLOW);
+        assertEquals(3, limit.getLimit());
+    }
+
+    private static void fill(AdaptiveConcurrencyLimit limit, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package in.clubwebsite.insightai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new MpscRingBuffer<Integer>(8).capacity());
+        assertEquals(16, new MpscRingBuffer<Integer>(9).capacity());
+        assertEquals(8192, new MpscRingBuffer<Integer>(8192).capacity());
+    }
+
+    @Test
+    void offerReturnsFalseWhenFullAndAcceptsAgainAfterDrain() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertEquals(List.of(0, 1), drained);
+
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertFalse(buffer.offer(6));
+
+        drained.clear();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(2, 3, 4, 5), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int producers = 8;
+        int perProducer = 200_000;
+        // small buffer so producers keep hitting the full case and wrapping around
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(64);
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> rejected = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                rejected.add(pool.submit(() -> {
+                    start.await();
+                    int full = 0;
+                    for (long seq = 0; seq < perProducer; seq++) {
+                        // encode producer and sequence so the consumer can check order per producer
+                        while (!buffer.offer(producer << 32 | seq)) {
+                            full++;
+                            // yield rather than spin so the consumer also gets CPU on a single-core runner
+                            Thread.yield();
+                        }
+                    }
+                    return full;
+                }));
+            }
+
+            long[] nextSeq = new long[producers];
+            long received = 0;
+            long total = (long) producers * perProducer;
+            List<Long> batch = new ArrayList<>(64);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            start.countDown();
+            while (received < total) {
+                assertTrue(System.nanoTime() < deadline, "consumer stalled after " + received + " elements");
+                batch.clear();
+                if (buffer.drainTo(batch, 64) == 0) {
+                    Thread.yield();
+                }
+                for (long value : batch) {
+                    int producer = (int) (value >>> 32);
+                    long seq = value & 0xFFFFFFFFL;
+                    assertEquals(nextSeq[producer], seq, "producer " + producer + " out of order, lost or duplicated");
+                    nextSeq[producer]++;
+                }
+                received += batch.size();
+            }
+
+            int fullOffers = 0;
+            for (Future<Integer> f : rejected) {
+                fullOffers += f.get(10, TimeUnit.SECONDS);
+            }
+            for (long seq : nextSeq) {
+                assertEquals(perProducer, seq);
+            }
+            assertEquals(0, buffer.size());
+            assertTrue(fullOffers > 0, "expected the buffer to fill up at least once");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
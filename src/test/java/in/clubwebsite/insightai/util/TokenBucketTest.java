@@ -0,0 +1,44 @@
+package in.clubwebsite.insightai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    void allowsBurstThenRefuses() {
+        TokenBucket bucket = new TokenBucket(3, 0.001);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void reportsWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(1, 10);
+        assertEquals(0, bucket.nanosUntilAvailable());
+        assertTrue(bucket.tryAcquire());
+
+        long wait = bucket.nanosUntilAvailable();
+        assertTrue(wait > 0, "wait was " + wait);
+        assertTrue(wait <= TimeUnit.MILLISECONDS.toNanos(100), "wait was " + wait);
+    }
+
+    @Test
+    void refillsOverTimeButNeverBeyondCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, 20);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        // 300 ms at 20/s would be 6 tokens without the cap
+        Thread.sleep(300);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+}